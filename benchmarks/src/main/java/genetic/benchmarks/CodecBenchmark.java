@@ -0,0 +1,98 @@
+package genetic.benchmarks;
+
+import genetic.chromosome.Chromosome;
+import genetic.codec.ChromosomeCodec;
+import genetic.codec.ChromosomeToFloat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decodes and encodes every chromosome of a population per invocation, through the static
+ * ChromosomeToFloat methods and through a ChromosomeCodec compiled for the layout.
+ * Binary layouts use 8 bits per value; integer and float layouts use one gene per value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    private static final int BITS_PER_VALUE = 8;
+
+    @Param({"BINARY", "PACKED_BINARY", "INTEGER", "FLOAT"})
+    public String chromosomeType;
+
+    @Param({"64", "4096"})
+    public int genomeLength;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private Chromosome[] chromosomes;
+    private int numValues;
+    private double[] values;
+    private ChromosomeCodec codec;
+    private double[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chromosomes = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            chromosomes[i] = Fixtures.randomChromosome(chromosomeType, genomeLength);
+        }
+        boolean binary = chromosomeType.endsWith("BINARY");
+        numValues = binary ? genomeLength / BITS_PER_VALUE : genomeLength;
+        values = new double[numValues];
+        Random random = new Random(42);
+        for (int i = 0; i < numValues; i++) {
+            values[i] = random.nextDouble();
+        }
+        codec = new ChromosomeCodec(numValues, BITS_PER_VALUE);
+        buffer = new double[numValues];
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        for (Chromosome chromosome : chromosomes) {
+            blackhole.consume(ChromosomeToFloat.decode(chromosome, numValues, BITS_PER_VALUE));
+        }
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        for (Chromosome chromosome : chromosomes) {
+            ChromosomeToFloat.encode(chromosome, values, BITS_PER_VALUE);
+        }
+        blackhole.consume(chromosomes);
+    }
+
+    @Benchmark
+    public void decodeCompiled(Blackhole blackhole) {
+        for (Chromosome chromosome : chromosomes) {
+            codec.decode(chromosome, buffer);
+            blackhole.consume(buffer);
+        }
+    }
+
+    @Benchmark
+    public void encodeCompiled(Blackhole blackhole) {
+        for (Chromosome chromosome : chromosomes) {
+            codec.encode(chromosome, values);
+        }
+        blackhole.consume(chromosomes);
+    }
+}
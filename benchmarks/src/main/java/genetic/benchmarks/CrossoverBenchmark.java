@@ -0,0 +1,67 @@
+package genetic.benchmarks;
+
+import genetic.chromosome.Chromosome;
+import genetic.crossover.CrossoverOperator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Crosses every consecutive pair of a population once per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrossoverBenchmark {
+    @Param({"ONE_POINT", "TWO_POINT", "UNIFORM"})
+    public String operator;
+
+    @Param({"BINARY", "PACKED_BINARY", "INTEGER", "FLOAT"})
+    public String chromosomeType;
+
+    @Param({"64", "4096"})
+    public int genomeLength;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private CrossoverOperator<Chromosome> crossover;
+    private Chromosome[] chromosomes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        crossover = Fixtures.crossover(operator, chromosomeType);
+        chromosomes = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            chromosomes[i] = Fixtures.randomChromosome(chromosomeType, genomeLength);
+        }
+    }
+
+    @Benchmark
+    public void crossover(Blackhole blackhole) {
+        for (int i = 0; i + 1 < chromosomes.length; i += 2) {
+            blackhole.consume(crossover.crossover(chromosomes[i], chromosomes[i + 1]));
+        }
+    }
+
+    @Benchmark
+    public void crossoverInPlace() {
+        for (int i = 0; i + 1 < chromosomes.length; i += 2) {
+            crossover.crossoverInPlace(chromosomes[i], chromosomes[i + 1]);
+        }
+    }
+}
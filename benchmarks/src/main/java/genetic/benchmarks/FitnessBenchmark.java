@@ -0,0 +1,72 @@
+package genetic.benchmarks;
+
+import genetic.chromosome.Chromosome;
+import genetic.examples.IrrigationFitnessFunction;
+import genetic.soa.GeneMatrix;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Scores a population with the irrigation fitness function, one chromosome per call versus one batch call
+ * over a gene matrix (including loading the chromosomes into it, as the engine does).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FitnessBenchmark {
+    @Param({"BINARY", "INTEGER", "FLOAT"})
+    public String chromosomeType;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private final IrrigationFitnessFunction fitness = new IrrigationFitnessFunction();
+    private GeneMatrix genes;
+    private List<Chromosome> chromosomes;
+    private double[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int genomeLength = chromosomeType.endsWith("BINARY") ? 40 : 5;
+        chromosomes = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            chromosomes.add(Fixtures.randomChromosome(chromosomeType, genomeLength));
+        }
+        genes = GeneMatrix.forPrototype(chromosomes.get(0), populationSize);
+        scores = new double[populationSize];
+    }
+
+    @Benchmark
+    public void perChromosome(Blackhole blackhole) {
+        for (int i = 0; i < populationSize; i++) {
+            scores[i] = fitness.evaluate(chromosomes.get(i));
+        }
+        blackhole.consume(scores);
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        for (int i = 0; i < populationSize; i++) {
+            genes.loadRow(i, chromosomes.get(i));
+        }
+        fitness.evaluate(genes, scores);
+        blackhole.consume(scores);
+    }
+}
@@ -0,0 +1,158 @@
+package genetic.benchmarks;
+
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.crossover.CrossoverOperator;
+import genetic.crossover.OnePointCrossover;
+import genetic.crossover.TwoPointCrossover;
+import genetic.crossover.UniformCrossover;
+import genetic.mutation.BinaryBitFlip;
+import genetic.mutation.FloatGaussian;
+import genetic.mutation.FloatUniformMutation;
+import genetic.mutation.IntegerCreepMutation;
+import genetic.mutation.IntegerRandomResetting;
+import genetic.mutation.IntegerSwap;
+import genetic.mutation.MutationOperator;
+import genetic.mutation.PackedBinaryBitFlip;
+import genetic.replacement.Elitism;
+import genetic.replacement.GenerationalReplacement;
+import genetic.replacement.ReplacementStrategy;
+import genetic.replacement.SteadyState;
+import genetic.selection.AliasRouletteSelection;
+import genetic.selection.RankSelection;
+import genetic.selection.RouletteWheelSelection;
+import genetic.selection.SelectionStrategy;
+import genetic.selection.StochasticUniversalSampling;
+import genetic.selection.TournamentSelection;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Maps the string parameters used by the benchmarks to library objects.
+ */
+final class Fixtures {
+    static final double MUTATION_RATE = 0.05;
+
+    private Fixtures() {
+    }
+
+    static Chromosome prototype(String chromosomeType, int length) {
+        switch (chromosomeType) {
+            case "BINARY":
+                return new BinaryChromosome(length);
+            case "PACKED_BINARY":
+                return new PackedBinaryChromosome(length);
+            case "INTEGER":
+                return new IntegerChromosome(length, 0, 255);
+            case "FLOAT":
+                return new FloatChromosome(length, 0.0, 1.0);
+            default:
+                throw new IllegalArgumentException("Unknown chromosome type " + chromosomeType);
+        }
+    }
+
+    static Chromosome randomChromosome(String chromosomeType, int length) {
+        Chromosome chromosome = prototype(chromosomeType, length);
+        chromosome.initialize();
+        return chromosome;
+    }
+
+    static CrossoverOperator<Chromosome> crossover(String name, String chromosomeType) {
+        return CrossoverOperator.forPrototype(crossoverFor(name), prototype(chromosomeType, 1));
+    }
+
+    private static CrossoverOperator<?> crossoverFor(String name) {
+        switch (name) {
+            case "ONE_POINT":
+                return new OnePointCrossover();
+            case "TWO_POINT":
+                return new TwoPointCrossover();
+            case "UNIFORM":
+                return new UniformCrossover();
+            default:
+                throw new IllegalArgumentException("Unknown crossover " + name);
+        }
+    }
+
+    static MutationOperator<Chromosome> mutation(String name) {
+        return MutationOperator.forPrototype(mutationFor(name), prototype(mutationTarget(name), 1));
+    }
+
+    private static MutationOperator<?> mutationFor(String name) {
+        switch (name) {
+            case "BINARY_BIT_FLIP":
+                return new BinaryBitFlip(MUTATION_RATE);
+            case "PACKED_BINARY_BIT_FLIP":
+                return new PackedBinaryBitFlip(MUTATION_RATE);
+            case "INTEGER_RANDOM_RESETTING":
+                return new IntegerRandomResetting(MUTATION_RATE);
+            case "INTEGER_CREEP":
+                return new IntegerCreepMutation(MUTATION_RATE, 1);
+            case "INTEGER_SWAP":
+                return new IntegerSwap(MUTATION_RATE);
+            case "FLOAT_UNIFORM":
+                return new FloatUniformMutation(MUTATION_RATE);
+            case "FLOAT_GAUSSIAN":
+                return new FloatGaussian(MUTATION_RATE, 0.1);
+            default:
+                throw new IllegalArgumentException("Unknown mutation " + name);
+        }
+    }
+
+    static String mutationTarget(String name) {
+        if (name.startsWith("PACKED_BINARY")) {
+            return "PACKED_BINARY";
+        } else if (name.startsWith("BINARY")) {
+            return "BINARY";
+        }
+        return name.startsWith("INTEGER") ? "INTEGER" : "FLOAT";
+    }
+
+    static MutationOperator<?> defaultMutation(String chromosomeType) {
+        switch (chromosomeType) {
+            case "BINARY":
+                return new BinaryBitFlip(MUTATION_RATE);
+            case "PACKED_BINARY":
+                return new PackedBinaryBitFlip(MUTATION_RATE);
+            case "INTEGER":
+                return new IntegerRandomResetting(MUTATION_RATE);
+            default:
+                return new FloatGaussian(MUTATION_RATE, 0.1);
+        }
+    }
+
+    static SelectionStrategy selection(String name) {
+        switch (name) {
+            case "TOURNAMENT":
+                return new TournamentSelection(3);
+            case "ROULETTE":
+                return new RouletteWheelSelection();
+            case "ALIAS_ROULETTE":
+                return new AliasRouletteSelection();
+            case "STOCHASTIC_UNIVERSAL":
+                return new StochasticUniversalSampling();
+            case "RANK":
+                return new RankSelection(1.5);
+            default:
+                throw new IllegalArgumentException("Unknown selection " + name);
+        }
+    }
+
+    static ReplacementStrategy replacement(String name, int populationSize) {
+        int count = Math.max(1, populationSize / 10);
+        switch (name) {
+            case "ELITISM":
+                return new Elitism(count);
+            case "PARALLEL_ELITISM":
+                return new Elitism(count, ForkJoinPool.commonPool(), 256);
+            case "STEADY_STATE":
+                return new SteadyState(count);
+            case "GENERATIONAL":
+                return new GenerationalReplacement();
+            default:
+                throw new IllegalArgumentException("Unknown replacement " + name);
+        }
+    }
+}
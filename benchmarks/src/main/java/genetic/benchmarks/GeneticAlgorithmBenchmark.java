@@ -0,0 +1,83 @@
+package genetic.benchmarks;
+
+import genetic.GeneticAlgorithm;
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.codec.ChromosomeToFloat;
+import genetic.replacement.Elitism;
+import genetic.selection.TournamentSelection;
+import genetic.crossover.TwoPointCrossover;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end GeneticAlgorithm.run() with a cheap objective, so the engine itself dominates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneticAlgorithmBenchmark {
+    private static final int GENERATIONS = 20;
+    private static final int BITS_PER_VALUE = 8;
+
+    @Param({"BINARY", "PACKED_BINARY", "INTEGER", "FLOAT"})
+    public String chromosomeType;
+
+    @Param({"64", "1024"})
+    public int genomeLength;
+
+    @Param({"50", "500"})
+    public int populationSize;
+
+    @Param({"false", "true"})
+    public boolean doubleBuffered;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private GeneticAlgorithm ga;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean binary = chromosomeType.endsWith("BINARY");
+        int numValues = binary ? genomeLength / BITS_PER_VALUE : genomeLength;
+        FitnessFunction fitness = chromosome -> {
+            double sum = 0.0;
+            for (double value : ChromosomeToFloat.decode(chromosome, numValues, BITS_PER_VALUE)) {
+                sum += value;
+            }
+            return sum;
+        };
+
+        ga = new GeneticAlgorithm();
+        ga.setPopulationSize(populationSize);
+        ga.setGenerations(GENERATIONS);
+        ga.setSelectionStrategy(new TournamentSelection(3));
+        ga.setCrossoverOperator(new TwoPointCrossover());
+        ga.setMutationOperator(Fixtures.defaultMutation(chromosomeType));
+        ga.setReplacementStrategy(new Elitism(Math.max(1, populationSize / 10)));
+        ga.setFitnessFunction(fitness);
+        ga.setPrototype(Fixtures.prototype(chromosomeType, genomeLength));
+        ga.setDoubleBuffered(doubleBuffered);
+        ga.setPooled(pooled);
+    }
+
+    @Benchmark
+    public Chromosome run() {
+        return ga.run();
+    }
+}
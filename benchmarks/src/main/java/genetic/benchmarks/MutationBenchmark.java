@@ -0,0 +1,60 @@
+package genetic.benchmarks;
+
+import genetic.chromosome.Chromosome;
+import genetic.mutation.MutationOperator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mutates every chromosome of a population once per invocation.
+ * The chromosome type follows from the operator, since each operator targets one encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationBenchmark {
+    @Param({"BINARY_BIT_FLIP", "PACKED_BINARY_BIT_FLIP", "INTEGER_RANDOM_RESETTING", "INTEGER_CREEP",
+            "INTEGER_SWAP", "FLOAT_UNIFORM", "FLOAT_GAUSSIAN"})
+    public String operator;
+
+    @Param({"64", "4096"})
+    public int genomeLength;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private MutationOperator<Chromosome> mutation;
+    private Chromosome[] chromosomes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mutation = Fixtures.mutation(operator);
+        chromosomes = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            chromosomes[i] = Fixtures.randomChromosome(Fixtures.mutationTarget(operator), genomeLength);
+        }
+    }
+
+    @Benchmark
+    public void mutate(Blackhole blackhole) {
+        for (Chromosome chromosome : chromosomes) {
+            mutation.mutate(chromosome, 10, 100);
+        }
+        blackhole.consume(chromosomes);
+    }
+}
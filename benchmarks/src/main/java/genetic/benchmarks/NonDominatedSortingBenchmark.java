@@ -0,0 +1,67 @@
+package genetic.benchmarks;
+
+import genetic.multiobjective.NonDominatedSorting;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sorts parents and offspring of an NSGA-II generation (2 * populationSize random objective vectors)
+ * into fronts and assigns crowding distances, sequentially or on the common pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NonDominatedSortingBenchmark {
+    @Param({"1000", "10000"})
+    public int populationSize;
+
+    @Param({"2", "3"})
+    public int objectiveCount;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private NonDominatedSorting sorting;
+    private double[] objectives;
+    private double[] distance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorting = new NonDominatedSorting(parallel ? ForkJoinPool.commonPool() : null);
+        int rows = 2 * populationSize;
+        objectives = new double[rows * objectiveCount];
+        distance = new double[rows];
+        Random random = new Random(42);
+        for (int i = 0; i < objectives.length; i++) {
+            objectives[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public void sortAndCrowd(Blackhole blackhole) {
+        sorting.sort(objectives, 2 * populationSize, objectiveCount);
+        int[] order = sorting.getOrder();
+        for (int f = 0; f < sorting.getFrontCount(); f++) {
+            NonDominatedSorting.crowdingDistance(objectives, objectiveCount, order,
+                    sorting.getFrontStart(f), sorting.getFrontEnd(f), distance);
+        }
+        blackhole.consume(distance);
+    }
+}
@@ -0,0 +1,74 @@
+package genetic.benchmarks;
+
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.replacement.ReplacementStrategy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplacementBenchmark {
+    @Param({"ELITISM", "PARALLEL_ELITISM", "STEADY_STATE", "GENERATIONAL"})
+    public String strategy;
+
+    @Param({"BINARY", "PACKED_BINARY", "INTEGER", "FLOAT"})
+    public String chromosomeType;
+
+    @Param({"64", "4096"})
+    public int genomeLength;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private ReplacementStrategy replacement;
+    private Population current;
+    private Population offspring;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        replacement = Fixtures.replacement(strategy, populationSize);
+        Chromosome prototype = Fixtures.prototype(chromosomeType, genomeLength);
+        current = new Population(populationSize, prototype);
+        offspring = new Population(populationSize, prototype);
+    }
+
+    // Fitness values are reshuffled before each call so the strategies see unsorted input
+    @Setup(Level.Invocation)
+    public void shuffleFitness() {
+        Random random = new Random(7);
+        for (Chromosome chromosome : current.getChromosomes()) {
+            chromosome.setFitness(random.nextDouble());
+        }
+        for (Chromosome chromosome : offspring.getChromosomes()) {
+            chromosome.setFitness(random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public Population replace() {
+        return replacement.replace(current, offspring.getChromosomes());
+    }
+
+    @Benchmark
+    public Population replaceInto() {
+        return replacement.replaceInto(current, offspring);
+    }
+}
@@ -0,0 +1,85 @@
+package genetic.benchmarks;
+
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.selection.SelectionStrategy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Draws a full generation's worth of parents (populationSize selections) per invocation,
+ * including the per-generation prepare call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark {
+    @Param({"TOURNAMENT", "ROULETTE", "ALIAS_ROULETTE", "STOCHASTIC_UNIVERSAL", "RANK"})
+    public String strategy;
+
+    @Param({"BINARY", "PACKED_BINARY", "INTEGER", "FLOAT"})
+    public String chromosomeType;
+
+    @Param({"64"})
+    public int genomeLength;
+
+    @Param({"100", "1000", "10000"})
+    public int populationSize;
+
+    private SelectionStrategy selection;
+    private Population population;
+    private double[] fitness;
+    private int[] matingPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        selection = Fixtures.selection(strategy);
+        population = new Population(populationSize, Fixtures.prototype(chromosomeType, genomeLength));
+        fitness = new double[populationSize];
+        matingPool = new int[populationSize];
+        Random random = new Random(42);
+        for (int i = 0; i < populationSize; i++) {
+            fitness[i] = random.nextDouble();
+            population.getChromosomes().get(i).setFitness(fitness[i]);
+        }
+    }
+
+    @Benchmark
+    public void select(Blackhole blackhole) {
+        selection.prepare(population);
+        for (int i = 0; i < populationSize; i++) {
+            Chromosome parent = selection.select(population);
+            blackhole.consume(parent);
+        }
+    }
+
+    @Benchmark
+    public void selectIndex(Blackhole blackhole) {
+        selection.prepare(fitness, populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            blackhole.consume(selection.selectIndex(fitness, populationSize));
+        }
+    }
+
+    @Benchmark
+    public int[] selectIndices() {
+        selection.selectIndices(fitness, populationSize, matingPool);
+        return matingPool;
+    }
+}
@@ -0,0 +1,310 @@
+package genetic;
+
+import genetic.api.FitnessFunction;
+import genetic.api.GenerationListener;
+import genetic.api.IncrementalFitnessFunction;
+import genetic.api.InfeasibleHandler;
+import genetic.chromosome.Chromosome;
+import genetic.crossover.CrossoverOperator;
+import genetic.evaluation.DeltaFitnessFunction;
+import genetic.mutation.MutationOperator;
+import genetic.random.Rng;
+import genetic.selection.SelectionStrategy;
+import genetic.selection.TournamentSelection;
+import genetic.termination.TerminationCriterion;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Steady-state GA without a generation barrier. Each worker thread repeatedly selects two parents, breeds
+ * and evaluates two children and inserts each one into the shared population on its own, so a slow
+ * evaluation holds up only the worker performing it.
+ *
+ * Parents are drawn with the selection strategy's selectIndex from a snapshot of the slots' fitness that
+ * is refreshed, and the strategy prepared, once per generation; draws are serialized, since strategies keep
+ * state between calls. The chromosome then in the drawn slot becomes the parent.
+ *
+ * The population is an array of slots. A chromosome is never modified once it is in a slot; a child
+ * replaces the worst of a few randomly chosen slots with a compare-and-set, and only if it is at least
+ * as fit. If another worker replaced that slot first, the insert is retried with a new sample.
+ *
+ * Every populationSize evaluations count as one generation for statistics, listeners, termination
+ * criteria and time-varying mutation. The fitness function must be thread-safe when more than one
+ * worker is used. Runs are not reproducible, because workers interleave nondeterministically.
+ */
+public class AsyncSteadyStateGA {
+    private static final int INSERT_ATTEMPTS = 4;
+
+    private int populationSize = 50;
+    private long maxEvaluations = 5000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private SelectionStrategy selectionStrategy = new TournamentSelection(3);
+    private int replacementTournamentSize = 3;
+    private double crossoverProbability = 0.7;
+    private double mutationProbability = 0.05;
+    private CrossoverOperator<?> crossoverOperator;
+    private MutationOperator<?> mutationOperator;
+    private FitnessFunction fitnessFunction;
+    private InfeasibleHandler infeasibleHandler;
+    private Chromosome prototype;
+    private TerminationCriterion terminationCriterion;
+    private Long seed;
+    private final GenerationEventDispatcher dispatcher = new GenerationEventDispatcher();
+
+    // Per-run state
+    private AtomicReferenceArray<Chromosome> slots;
+    private final AtomicLong evaluations = new AtomicLong();
+    private final GenerationStatistics statistics = new GenerationStatistics();
+    private Breeder breeder;
+    private double[] fitness;
+    private boolean selectionPrepared;
+    private Chromosome template;
+    private FitnessFunction scoring;
+    private volatile boolean terminated;
+    private int recordedGeneration;
+    private long startNanos;
+
+    public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
+    public void setMaxEvaluations(long maxEvaluations) { this.maxEvaluations = maxEvaluations; }
+    public void setThreads(int threads) { this.threads = threads; }
+    public void setSelectionStrategy(SelectionStrategy selectionStrategy) { this.selectionStrategy = selectionStrategy; }
+    public void setReplacementTournamentSize(int replacementTournamentSize) { this.replacementTournamentSize = replacementTournamentSize; }
+    public void setCrossoverProbability(double crossoverProbability) { this.crossoverProbability = crossoverProbability; }
+    public void setMutationProbability(double mutationProbability) { this.mutationProbability = mutationProbability; }
+    public void setCrossoverOperator(CrossoverOperator<?> crossoverOperator) { this.crossoverOperator = crossoverOperator; }
+    public void setMutationOperator(MutationOperator<?> mutationOperator) { this.mutationOperator = mutationOperator; }
+    public void setFitnessFunction(FitnessFunction fitnessFunction) { this.fitnessFunction = fitnessFunction; }
+    public void setInfeasibleHandler(InfeasibleHandler infeasibleHandler) { this.infeasibleHandler = infeasibleHandler; }
+    public void setPrototype(Chromosome prototype) { this.prototype = prototype; }
+    public void setTerminationCriterion(TerminationCriterion terminationCriterion) { this.terminationCriterion = terminationCriterion; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public void addGenerationListener(GenerationListener listener) { dispatcher.addListener(listener); }
+    public void removeGenerationListener(GenerationListener listener) { dispatcher.removeListener(listener); }
+
+    /**
+     * Returns the statistics of the most recent generation, updated in place as the run progresses.
+     */
+    public GenerationStatistics getStatistics() { return statistics; }
+
+    public Chromosome run() {
+        if (threads < 1 || populationSize < 2) {
+            throw new IllegalStateException("At least one thread and two chromosomes are required");
+        }
+        if (threads > 1 && !fitnessFunction.isThreadSafe()) {
+            throw new IllegalStateException("Asynchronous evaluation on " + threads + " threads needs a thread-safe fitness function");
+        }
+        breeder = new Breeder(prototype, crossoverOperator, mutationOperator, crossoverProbability, mutationProbability,
+                infeasibleHandler, null);
+        template = prototype;
+        scoring = fitnessFunction;
+        if (fitnessFunction instanceof IncrementalFitnessFunction) {
+            IncrementalFitnessFunction incremental = (IncrementalFitnessFunction) fitnessFunction;
+            template = prototype.copy();
+            template.trackChanges(incremental.changeCapacity(prototype.getLength()));
+            scoring = new DeltaFitnessFunction(incremental);
+        }
+        if (terminationCriterion != null) {
+            terminationCriterion.reset();
+        }
+        slots = new AtomicReferenceArray<>(populationSize);
+        fitness = new double[populationSize];
+        selectionPrepared = false;
+        evaluations.set(populationSize);
+        terminated = false;
+        recordedGeneration = -1;
+        startNanos = System.nanoTime();
+
+        CountDownLatch initialized = new CountDownLatch(threads);
+        Rng master = Rng.current();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "steady-state-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                Rng rng = seed != null ? Rng.stream(seed, index) : master.split();
+                workers.add(executor.submit(() -> {
+                    work(index, rng, initialized);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Steady-state run interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Steady-state worker failed", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        recordFinalGeneration(Math.min(evaluations.get(), maxEvaluations));
+        Chromosome best = null;
+        for (int i = 0; i < populationSize; i++) {
+            Chromosome chrom = slots.get(i);
+            if (best == null || chrom.getFitness() > best.getFitness()) {
+                best = chrom;
+            }
+        }
+        return best;
+    }
+
+    // A failing worker stops the others, so run can report the failure instead of waiting for them
+    private void work(int index, Rng rng, CountDownLatch initialized) throws InterruptedException {
+        try {
+            evolve(index, rng, initialized);
+        } catch (RuntimeException | Error | InterruptedException e) {
+            terminated = true;
+            throw e;
+        }
+    }
+
+    private void evolve(int index, Rng rng, CountDownLatch initialized) throws InterruptedException {
+        Rng.setCurrent(rng);
+        try {
+            // Each worker creates and evaluates its own stripe of the initial population
+            for (int i = index; i < populationSize; i += threads) {
+                Chromosome chrom = template.copy();
+                chrom.initialize();
+                chrom.setFitness(scoring.evaluate(chrom));
+                slots.set(i, chrom);
+            }
+        } finally {
+            initialized.countDown();
+        }
+        initialized.await();
+        // An empty slot means another worker failed while creating its stripe
+        for (int i = 0; i < populationSize; i++) {
+            if (slots.get(i) == null) {
+                return;
+            }
+        }
+        if (index == 0) {
+            recordGeneration(populationSize);
+        }
+
+        int maxGenerations = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxEvaluations / populationSize));
+        int[] parents = new int[2];
+        while (!terminated) {
+            long ticket = evaluations.addAndGet(2);
+            if (ticket > maxEvaluations + 1) {
+                return;
+            }
+            int gen = (int) Math.min(Integer.MAX_VALUE, ticket / populationSize);
+            selectParents(parents);
+            Chromosome child1 = slots.get(parents[0]).copy();
+            Chromosome child2 = slots.get(parents[1]).copy();
+            breeder.breed(child1, child2, gen, maxGenerations, rng);
+
+            child1.setFitness(scoring.evaluate(child1));
+            insert(child1, rng);
+            if (ticket <= maxEvaluations) {
+                child2.setFitness(scoring.evaluate(child2));
+                insert(child2, rng);
+            }
+            // Exactly one worker crosses each multiple of populationSize and reports that generation
+            if ((ticket - 2) / populationSize != ticket / populationSize) {
+                recordGeneration(ticket);
+            }
+        }
+    }
+
+    private synchronized void selectParents(int[] parents) {
+        if (!selectionPrepared) {
+            prepareSelection();
+        }
+        parents[0] = selectionStrategy.selectIndex(fitness, populationSize);
+        parents[1] = selectionStrategy.selectIndex(fitness, populationSize);
+    }
+
+    // Called with the lock held
+    private void prepareSelection() {
+        for (int i = 0; i < populationSize; i++) {
+            fitness[i] = slots.get(i).getFitness();
+        }
+        selectionStrategy.prepare(fitness, populationSize);
+        selectionPrepared = true;
+    }
+
+    // Replaces the worst of a random sample if the child is at least as fit
+    private void insert(Chromosome child, Rng random) {
+        for (int attempt = 0; attempt < INSERT_ATTEMPTS; attempt++) {
+            int victim = -1;
+            Chromosome worst = null;
+            for (int i = 0; i < replacementTournamentSize; i++) {
+                int candidate = random.nextInt(populationSize);
+                Chromosome chrom = slots.get(candidate);
+                if (worst == null || chrom.getFitness() < worst.getFitness()) {
+                    worst = chrom;
+                    victim = candidate;
+                }
+            }
+            if (child.getFitness() < worst.getFitness()) {
+                return;
+            }
+            if (slots.compareAndSet(victim, worst, child)) {
+                return;
+            }
+        }
+    }
+
+    // Statistics are taken over a live population, so they are approximate while other workers insert.
+    // A worker that reaches the lock after a later generation was reported drops its report, so
+    // listeners never see the generation number go backwards.
+    private synchronized void recordGeneration(long evaluationCount) {
+        int gen = (int) Math.min(Integer.MAX_VALUE, evaluationCount / populationSize) - 1;
+        if (gen <= recordedGeneration) {
+            return;
+        }
+        recordedGeneration = gen;
+        statistics.update(gen, new SlotView(), Math.min(evaluationCount, maxEvaluations), System.nanoTime() - startNanos,
+                usesDiversity());
+        if (terminationCriterion != null && terminationCriterion.isSatisfied(statistics)) {
+            terminated = true;
+        }
+        dispatcher.publish(statistics);
+        prepareSelection();
+    }
+
+    // Statistics of the population run returns, taken after every worker has stopped; listeners receive
+    // them as the last event even when the generation number matches the previous report
+    private synchronized void recordFinalGeneration(long evaluationCount) {
+        int gen = (int) Math.min(Integer.MAX_VALUE, evaluationCount / populationSize) - 1;
+        recordedGeneration = Math.max(recordedGeneration, gen);
+        statistics.update(gen, new SlotView(), evaluationCount, System.nanoTime() - startNanos, usesDiversity());
+        dispatcher.publish(statistics);
+    }
+
+    private boolean usesDiversity() {
+        return terminationCriterion != null && terminationCriterion.usesDiversity() || dispatcher.usesDiversity();
+    }
+
+    private class SlotView extends AbstractList<Chromosome> {
+        @Override
+        public Chromosome get(int index) {
+            return slots.get(index);
+        }
+
+        @Override
+        public int size() {
+            return slots.length();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package genetic;
+
+import genetic.api.InfeasibleHandler;
+import genetic.chromosome.Chromosome;
+import genetic.crossover.CrossoverOperator;
+import genetic.mutation.MutationOperator;
+import genetic.random.Rng;
+
+// Crossover, mutation and repair of one pair of children, shared by the engines. The operators are
+// specialized for the prototype once per run; each call is timed only when metrics are given.
+class Breeder {
+    private final CrossoverOperator<Chromosome> crossover;
+    private final MutationOperator<Chromosome> mutation;
+    private final double crossoverProbability;
+    private final double mutationProbability;
+    private final InfeasibleHandler infeasibleHandler;
+    private final GeneticAlgorithmMetrics metrics;
+
+    Breeder(Chromosome prototype, CrossoverOperator<?> crossoverOperator, MutationOperator<?> mutationOperator,
+            double crossoverProbability, double mutationProbability, InfeasibleHandler infeasibleHandler,
+            GeneticAlgorithmMetrics metrics) {
+        this.crossover = CrossoverOperator.forPrototype(crossoverOperator, prototype);
+        this.mutation = MutationOperator.forPrototype(mutationOperator, prototype);
+        this.crossoverProbability = crossoverProbability;
+        this.mutationProbability = mutationProbability;
+        this.infeasibleHandler = infeasibleHandler;
+        this.metrics = metrics;
+    }
+
+    void breed(Chromosome child1, Chromosome child2, int gen, int maxGenerations, Rng random) {
+        if (random.nextDouble() < crossoverProbability) {
+            if (metrics == null) {
+                crossover.crossoverInPlace(child1, child2);
+            } else {
+                long start = System.nanoTime();
+                crossover.crossoverInPlace(child1, child2);
+                metrics.crossover.record(System.nanoTime() - start);
+            }
+        }
+
+        if (random.nextDouble() < mutationProbability) {
+            mutate(child1, gen, maxGenerations);
+        }
+        if (random.nextDouble() < mutationProbability) {
+            mutate(child2, gen, maxGenerations);
+        }
+
+        if (infeasibleHandler != null) {
+            repair(child1);
+            repair(child2);
+        }
+    }
+
+    private void mutate(Chromosome child, int gen, int maxGenerations) {
+        if (metrics == null) {
+            mutation.mutate(child, gen, maxGenerations);
+            return;
+        }
+        long start = System.nanoTime();
+        mutation.mutate(child, gen, maxGenerations);
+        metrics.mutation.record(System.nanoTime() - start);
+    }
+
+    private void repair(Chromosome child) {
+        if (metrics == null) {
+            infeasibleHandler.handle(child);
+            return;
+        }
+        long start = System.nanoTime();
+        infeasibleHandler.handle(child);
+        metrics.repair.record(System.nanoTime() - start);
+    }
+}
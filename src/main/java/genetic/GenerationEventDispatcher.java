@@ -0,0 +1,59 @@
+package genetic;
+
+import genetic.api.GenerationListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers generation snapshots to listeners on a single daemon thread, which preserves their order.
+ * The thread is started on demand and exits after a second without events, so no shutdown is needed.
+ * Events queue up without bound while a listener is slow; each one is a small snapshot.
+ */
+class GenerationEventDispatcher {
+    private final List<GenerationListener> listeners = new CopyOnWriteArrayList<>();
+    private ThreadPoolExecutor executor;
+
+    void addListener(GenerationListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(GenerationListener listener) {
+        listeners.remove(listener);
+    }
+
+    boolean usesDiversity() {
+        for (GenerationListener listener : listeners) {
+            if (listener.usesDiversity()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void publish(GenerationStatistics statistics) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        GenerationStatistics snapshot = statistics.snapshot();
+        executor().execute(() -> {
+            for (GenerationListener listener : listeners) {
+                listener.onGeneration(snapshot);
+            }
+        });
+    }
+
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "generation-listener");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+}
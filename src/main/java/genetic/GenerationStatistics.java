@@ -0,0 +1,152 @@
+package genetic;
+
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.GeneMoments;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Summary of the current population, refreshed by GeneticAlgorithm once per generation in a single
+ * fused pass over the fitness values, and the genes when the diversity is asked for, together with the
+ * time spent in each phase of the generation.
+ * The instance returned by GeneticAlgorithm.getStatistics is updated in place; listeners receive snapshots.
+ */
+public class GenerationStatistics {
+    private int generation;
+    private int bestIndex = -1;
+    private double bestFitness;
+    private double worstFitness;
+    private double meanFitness;
+    private double standardDeviation;
+    private double diversity = Double.NaN;
+    private long evaluations;
+    private long elapsedNanos;
+    private long selectionNanos;
+    private long breedingNanos;
+    private long evaluationNanos;
+    private long replacementNanos;
+
+    // Reused between updates
+    private final GeneMoments moments = new GeneMoments();
+
+    GenerationStatistics() {
+    }
+
+    private GenerationStatistics(GenerationStatistics source) {
+        generation = source.generation;
+        bestIndex = source.bestIndex;
+        bestFitness = source.bestFitness;
+        worstFitness = source.worstFitness;
+        meanFitness = source.meanFitness;
+        standardDeviation = source.standardDeviation;
+        diversity = source.diversity;
+        evaluations = source.evaluations;
+        elapsedNanos = source.elapsedNanos;
+        selectionNanos = source.selectionNanos;
+        breedingNanos = source.breedingNanos;
+        evaluationNanos = source.evaluationNanos;
+        replacementNanos = source.replacementNanos;
+    }
+
+    // The genes are read only if withDiversity is set; the diversity is NaN otherwise
+    void update(int generation, List<Chromosome> chromosomes, long evaluations, long elapsedNanos, boolean withDiversity) {
+        update(generation, i -> chromosomes.get(i).getFitness(), chromosomes.size(), evaluations, elapsedNanos,
+                withDiversity ? chromosomes : null);
+    }
+
+    // Same pass over fitness values that are not held by chromosomes, such as a mapped population;
+    // the diversity is then unknown
+    void update(int generation, IntToDoubleFunction fitness, int size, long evaluations, long elapsedNanos) {
+        update(generation, fitness, size, evaluations, elapsedNanos, null);
+    }
+
+    private void update(int generation, IntToDoubleFunction fitness, int size, long evaluations, long elapsedNanos,
+                        List<Chromosome> chromosomes) {
+        if (chromosomes != null) {
+            moments.start(size > 0 ? chromosomes.get(0).getLength() : 0);
+        }
+        int bestAt = -1;
+        double best = Double.NEGATIVE_INFINITY;
+        double worst = Double.POSITIVE_INFINITY;
+        double mean = 0;
+        double m2 = 0;
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            double value = fitness.applyAsDouble(i);
+            if (value > best || bestAt < 0) {
+                best = value;
+                bestAt = i;
+            }
+            if (value < worst) {
+                worst = value;
+            }
+            // Welford's update keeps the variance accurate without a second pass
+            n++;
+            double delta = value - mean;
+            mean += delta / n;
+            m2 += delta * (value - mean);
+            if (chromosomes != null) {
+                moments.add(chromosomes.get(i));
+            }
+        }
+        this.generation = generation;
+        this.bestIndex = bestAt;
+        this.bestFitness = best;
+        this.worstFitness = worst;
+        this.meanFitness = mean;
+        this.standardDeviation = n > 0 ? Math.sqrt(m2 / n) : 0;
+        this.diversity = chromosomes != null ? moments.diversity() : Double.NaN;
+        this.evaluations = evaluations;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void setPhaseTimes(long selectionNanos, long breedingNanos, long evaluationNanos, long replacementNanos) {
+        this.selectionNanos = selectionNanos;
+        this.breedingNanos = breedingNanos;
+        this.evaluationNanos = evaluationNanos;
+        this.replacementNanos = replacementNanos;
+    }
+
+    GenerationStatistics snapshot() {
+        return new GenerationStatistics(this);
+    }
+
+    // Position of the best chromosome in the population the statistics were taken from
+    int getBestIndex() { return bestIndex; }
+
+    /**
+     * Returns the number of generations completed, 0 for the initial population.
+     */
+    public int getGeneration() { return generation; }
+    public double getBestFitness() { return bestFitness; }
+    public double getWorstFitness() { return worstFitness; }
+    public double getMeanFitness() { return meanFitness; }
+    public double getStandardDeviation() { return standardDeviation; }
+
+    /**
+     * Returns the genotypic diversity of the population: the mean over all genes of the standard deviation
+     * of the gene's value, with float and integer genes scaled to [0, 1] by their bounds and bits counted as
+     * 0 or 1. It is 0 for a converged population and at most 0.5. It is only computed when a termination
+     * criterion or generation listener reports usesDiversity, and NaN otherwise or if the genes are not
+     * available, as for chromosome types that do not implement addGenesTo or engines that only keep fitness values.
+     */
+    public double getDiversity() { return diversity; }
+
+    /**
+     * Returns the number of fitness evaluations requested since the run started.
+     */
+    public long getEvaluations() { return evaluations; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // Phase timings of this generation; all zero for the initial population
+    public long getSelectionNanos() { return selectionNanos; }
+    public long getBreedingNanos() { return breedingNanos; }
+    public long getEvaluationNanos() { return evaluationNanos; }
+    public long getReplacementNanos() { return replacementNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("Generation %d: best=%.6f worst=%.6f mean=%.6f stdDev=%.6f evaluations=%d",
+                generation, bestFitness, worstFitness, meanFitness, standardDeviation, evaluations);
+    }
+}
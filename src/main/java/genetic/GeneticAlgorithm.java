@@ -1,12 +1,29 @@
 package genetic;
 
 import genetic.api.FitnessFunction;
+import genetic.api.GenerationListener;
+import genetic.api.IncrementalFitnessFunction;
 import genetic.api.InfeasibleHandler;
+import genetic.checkpoint.Checkpoint;
+import genetic.checkpoint.CheckpointFile;
 import genetic.chromosome.Chromosome;
+import genetic.chromosome.ChromosomePool;
 import genetic.crossover.CrossoverOperator;
+import genetic.evaluation.DeltaFitnessFunction;
+import genetic.evaluation.FitnessEvaluator;
+import genetic.evaluation.SequentialEvaluator;
+import genetic.metrics.MetricsRegistry;
+import genetic.metrics.TimedBatchFitnessFunction;
+import genetic.metrics.TimedFitnessFunction;
 import genetic.mutation.MutationOperator;
+import genetic.random.Rng;
 import genetic.replacement.ReplacementStrategy;
 import genetic.selection.SelectionStrategy;
+import genetic.soa.BatchFitnessAdapter;
+import genetic.soa.BatchFitnessFunction;
+import genetic.soa.GeneMatrix;
+import genetic.termination.TerminationCriterion;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,12 +33,45 @@ public class GeneticAlgorithm {
     private double crossoverProbability = 0.7;
     private double mutationProbability = 0.05;
     private SelectionStrategy selectionStrategy;
-    private CrossoverOperator crossoverOperator;
-    private MutationOperator mutationOperator;
+    private CrossoverOperator<?> crossoverOperator;
+    private MutationOperator<?> mutationOperator;
     private ReplacementStrategy replacementStrategy;
     private FitnessFunction fitnessFunction;
+    private BatchFitnessFunction batchFitnessFunction;
     private InfeasibleHandler infeasibleHandler;
     private Chromosome prototype;
+    private FitnessEvaluator fitnessEvaluator = new SequentialEvaluator();
+    private boolean doubleBuffered;
+    private boolean pooled;
+    private boolean structureOfArrays;
+    private Long seed;
+    private TerminationCriterion terminationCriterion;
+    private final GenerationEventDispatcher dispatcher = new GenerationEventDispatcher();
+    private MetricsRegistry metricsRegistry;
+    private CheckpointFile checkpointFile;
+    private int checkpointInterval;
+
+    // Per-run working state, reset by initializePopulation
+    private double[] fitness;
+    private int[] matingPool;
+    private Population buffer;
+    private Chromosome spare;
+    private Breeder breeder;
+    private final GenerationStatistics statistics = new GenerationStatistics();
+    private long startNanos;
+    private long evaluations;
+    private boolean terminated;
+    private GeneticAlgorithmMetrics metrics;
+    private FitnessFunction scoring;
+    private DeltaFitnessFunction delta;
+    private BatchFitnessFunction batchScoring;
+    private Chromosome template;
+    private GeneMatrix batchGenes;
+    private final List<Chromosome> batched = new ArrayList<>();
+    private final List<Chromosome> updated = new ArrayList<>();
+    private ChromosomePool pool;
+    private final List<Chromosome> offspring = new ArrayList<>();
+    private long recordedEvaluations;
 
     // Setters for configuration
     public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
@@ -29,50 +79,410 @@ public class GeneticAlgorithm {
     public void setCrossoverProbability(double crossoverProbability) { this.crossoverProbability = crossoverProbability; }
     public void setMutationProbability(double mutationProbability) { this.mutationProbability = mutationProbability; }
     public void setSelectionStrategy(SelectionStrategy selectionStrategy) { this.selectionStrategy = selectionStrategy; }
-    public void setCrossoverOperator(CrossoverOperator crossoverOperator) { this.crossoverOperator = crossoverOperator; }
-    public void setMutationOperator(MutationOperator mutationOperator) { this.mutationOperator = mutationOperator; }
+    public void setCrossoverOperator(CrossoverOperator<?> crossoverOperator) { this.crossoverOperator = crossoverOperator; }
+    public void setMutationOperator(MutationOperator<?> mutationOperator) { this.mutationOperator = mutationOperator; }
     public void setReplacementStrategy(ReplacementStrategy replacementStrategy) { this.replacementStrategy = replacementStrategy; }
     public void setFitnessFunction(FitnessFunction fitnessFunction) { this.fitnessFunction = fitnessFunction; }
+
+    /**
+     * Scores the chromosomes of a generation that need it with one call over a structure-of-arrays copy of
+     * their genes. Takes precedence over the fitness function, except that chromosomes an
+     * IncrementalFitnessFunction set with setFitnessFunction can update from their changes are scored by it.
+     * Not available for packed binary prototypes. When unset, a fitness function that also implements
+     * BatchFitnessFunction is used as the batch function for prototypes a GeneMatrix can hold.
+     */
+    public void setBatchFitnessFunction(BatchFitnessFunction batchFitnessFunction) { this.batchFitnessFunction = batchFitnessFunction; }
     public void setInfeasibleHandler(InfeasibleHandler infeasibleHandler) { this.infeasibleHandler = infeasibleHandler; }
     public void setPrototype(Chromosome prototype) { this.prototype = prototype; }
+    public void setFitnessEvaluator(FitnessEvaluator fitnessEvaluator) { this.fitnessEvaluator = fitnessEvaluator; }
+    public void setDoubleBuffered(boolean doubleBuffered) { this.doubleBuffered = doubleBuffered; }
+
+    /**
+     * Recycles the chromosomes the replacement strategy drops as the next generation's children, so the
+     * copying loop stops allocating chromosomes at steady state. Chromosomes of earlier populations must
+     * then not be used after nextGeneration returns, except those that survive into the new population.
+     */
+    public void setPooled(boolean pooled) { this.pooled = pooled; }
+
+    /**
+     * Keeps the population as the rows of a GeneMatrix, one contiguous primitive array with a parallel
+     * fitness array, instead of Chromosome objects. Selection and replacement work on row indices, children
+     * are bred in two reused chromosomes and stored as rows of a second matrix, and each generation's
+     * children are scored with one call to the batch fitness function, or to the fitness function through
+     * BatchFitnessAdapter on the calling thread. Such runs are driven by run() only; double buffering,
+     * pooling and the fitness evaluator do not apply, and packed binary prototypes are not supported.
+     */
+    public void setStructureOfArrays(boolean structureOfArrays) { this.structureOfArrays = structureOfArrays; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public void setTerminationCriterion(TerminationCriterion terminationCriterion) { this.terminationCriterion = terminationCriterion; }
+    public void addGenerationListener(GenerationListener listener) { dispatcher.addListener(listener); }
+    public void removeGenerationListener(GenerationListener listener) { dispatcher.removeListener(listener); }
+
+    /**
+     * Enables instrumentation of every phase and operator call; null (the default) disables it.
+     * Metric names start with "ga.phase." for per-generation phases and "ga.operator." for single calls.
+     */
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) { this.metricsRegistry = metricsRegistry; }
+
+    /**
+     * Writes a checkpoint to file every interval generations. If the file exists when run() starts,
+     * the run resumes from it instead of starting over; the file is deleted once a run completes.
+     */
+    public void setCheckpointing(Path file, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.checkpointFile = new CheckpointFile(file);
+        this.checkpointInterval = interval;
+    }
+
+    /**
+     * Deletes the checkpoint file, if checkpointing is enabled. run does this when it completes; engines
+     * that drive the loop with initializePopulation and nextGeneration call it once they are done.
+     */
+    public void deleteCheckpoint() {
+        if (checkpointFile != null) {
+            checkpointFile.delete();
+        }
+    }
+
+    public int getGenerations() { return generations; }
+
+    /**
+     * Returns the seed set with setSeed, or null if there is none.
+     */
+    public Long getSeed() { return seed; }
+
+    /**
+     * Returns the statistics of the most recent generation, updated in place as the run progresses.
+     */
+    public GenerationStatistics getStatistics() { return statistics; }
+
+    /**
+     * Returns true once the termination criterion has been met. The generations setting is always an upper bound.
+     */
+    public boolean isTerminated() { return terminated; }
 
     public Chromosome run() {
-        Population population = new Population(populationSize, prototype);
-        population.evaluateFitness(fitnessFunction);
-
-        // Evolutionary loop: for each generation, create offspring via selection, crossover, mutation, then replace population
-        for (int gen = 0; gen < generations; gen++) {
-            List<Chromosome> offspring = new ArrayList<>();
-            while (offspring.size() < populationSize) {
-                Chromosome parent1 = selectionStrategy.select(population);
-                Chromosome parent2 = selectionStrategy.select(population);
-
-                Chromosome child1 = parent1.copy();
-                Chromosome child2 = parent2.copy();
-                if (Math.random() < crossoverProbability) {
-                    crossoverOperator.crossover(child1, child2);
-                }
+        if (structureOfArrays) {
+            return runRows();
+        }
+        boolean resume = checkpointFile != null && checkpointFile.exists();
+        Population population = resume ? resumePopulation() : initializePopulation();
+        for (int gen = statistics.getGeneration(); gen < generations && !terminated; gen++) {
+            population = nextGeneration(population, gen);
+        }
+        deleteCheckpoint();
+        int best = statistics.getBestIndex();
+        return best < 0 ? null : population.getChromosomes().get(best);
+    }
 
-                if (Math.random() < mutationProbability) {
-                    mutationOperator.mutate(child1, gen, generations);
-                }
-                if (Math.random() < mutationProbability) {
-                    mutationOperator.mutate(child2, gen, generations);
-                }
+    /**
+     * Creates and evaluates a random initial population and resets the per-run buffers.
+     * Together with nextGeneration this lets other engines drive the evolutionary loop step by step.
+     * If a seed is set, the calling thread's Rng stream is reseeded first, making the run reproducible
+     * as long as the same thread performs every step.
+     *
+     * @throws IllegalArgumentException if an operator or the batch fitness function does not work on the prototype's encoding
+     * @throws IllegalStateException if the population is kept in structure-of-arrays form
+     */
+    public Population initializePopulation() {
+        if (structureOfArrays) {
+            throw new IllegalStateException("A structure-of-arrays population is evolved by run()");
+        }
+        prepareRun();
+        if (seed != null) {
+            Rng.setCurrent(new Rng(seed));
+        }
+        Population population = new Population(populationSize, template);
+        long evaluationStart = System.nanoTime();
+        evaluate(population.getChromosomes());
+        evaluations += population.getSize();
+        statistics.setPhaseTimes(0, 0, System.nanoTime() - evaluationStart, 0);
+        recordGeneration(population, 0);
+        return population;
+    }
 
-                if (infeasibleHandler != null) {
-                    infeasibleHandler.handle(child1);
-                    infeasibleHandler.handle(child2);
-                }
+    // Restores population, generation, evaluation count and the random stream of the calling thread
+    private Population resumePopulation() {
+        prepareRun();
+        Checkpoint checkpoint = readCheckpoint();
+        Population population = checkpoint.getPopulation();
+        recordGeneration(population, checkpoint.getGeneration());
+        return population;
+    }
+
+    private Checkpoint readCheckpoint() {
+        Checkpoint checkpoint = checkpointFile.read(template);
+        Population population = checkpoint.getPopulation();
+        if (population.getSize() != populationSize) {
+            throw new IllegalStateException("Checkpoint holds " + population.getSize()
+                    + " chromosomes, expected " + populationSize);
+        }
+        Rng.setCurrent(checkpoint.getRng());
+        evaluations = checkpoint.getEvaluations();
+        recordedEvaluations = evaluations;
+        statistics.setPhaseTimes(0, 0, 0, 0);
+        return checkpoint;
+    }
+
+    private void prepareRun() {
+        metrics = metricsRegistry != null ? new GeneticAlgorithmMetrics(metricsRegistry) : null;
+        breeder = new Breeder(prototype, crossoverOperator, mutationOperator, crossoverProbability, mutationProbability,
+                infeasibleHandler, metrics);
+        // Incremental functions get chromosomes that record their gene changes
+        template = prototype;
+        scoring = fitnessFunction;
+        delta = null;
+        if (fitnessFunction instanceof IncrementalFitnessFunction) {
+            IncrementalFitnessFunction incremental = (IncrementalFitnessFunction) fitnessFunction;
+            template = prototype.copy();
+            template.trackChanges(incremental.changeCapacity(prototype.getLength()));
+            delta = new DeltaFitnessFunction(incremental);
+            scoring = delta;
+        }
+        BatchFitnessFunction batch = batchFitnessFunction;
+        if (batch == null && fitnessFunction instanceof BatchFitnessFunction && GeneMatrix.supports(prototype)) {
+            batch = (BatchFitnessFunction) fitnessFunction;
+        }
+        batchScoring = batch;
+        if (metrics != null) {
+            scoring = scoring != null ? new TimedFitnessFunction(scoring, metrics.fitness) : null;
+            batchScoring = batchScoring != null ? new TimedBatchFitnessFunction(batchScoring, metrics.fitness) : null;
+        }
+        pool = pooled && !doubleBuffered && !structureOfArrays ? new ChromosomePool(template, 2 * populationSize + 2) : null;
+        replacementStrategy.setReleaseHook(pool != null ? pool::release : null);
+        batchGenes = batch != null && !structureOfArrays ? GeneMatrix.forPrototype(prototype, populationSize) : null;
+        if (terminationCriterion != null) {
+            terminationCriterion.reset();
+        }
+        startNanos = System.nanoTime();
+        evaluations = 0;
+        recordedEvaluations = 0;
+        terminated = false;
+        fitness = null;
+        matingPool = new int[matingPoolSize()];
+        if (doubleBuffered && !structureOfArrays) {
+            buffer = new Population(populationSize, template);
+            spare = template.copy();
+        }
+    }
+
+    /**
+     * Breeds, evaluates and replaces one generation and returns the population to continue with.
+     */
+    public Population nextGeneration(Population population, int gen) {
+        Population next = doubleBuffered ? nextGenerationInPlace(population, gen) : nextGenerationCopying(population, gen);
+        recordGeneration(next, gen + 1);
+        if (checkpointFile != null && (gen + 1) % checkpointInterval == 0) {
+            checkpointFile.write(next, gen + 1, evaluations, Rng.current());
+        }
+        return next;
+    }
+
+    private void evaluate(List<Chromosome> chromosomes) {
+        if (batchGenes == null) {
+            fitnessEvaluator.evaluate(chromosomes, scoring);
+            return;
+        }
+        // Chromosomes whose fitness is still valid are skipped; the incremental function takes those it can update
+        batched.clear();
+        updated.clear();
+        for (Chromosome chrom : chromosomes) {
+            if (chrom.isEvaluated()) {
+                continue;
+            }
+            if (delta != null && !delta.needsFullEvaluation(chrom)) {
+                updated.add(chrom);
+            } else {
+                batched.add(chrom);
+            }
+        }
+        if (!updated.isEmpty()) {
+            fitnessEvaluator.evaluate(updated, scoring);
+        }
+        if (batched.isEmpty()) {
+            return;
+        }
+        if (batchGenes.getCapacity() < batched.size()) {
+            batchGenes = GeneMatrix.forPrototype(prototype, batched.size());
+        }
+        fitnessEvaluator.evaluate(batched, batchScoring, batchGenes);
+        if (delta != null) {
+            for (Chromosome chrom : batched) {
+                delta.recordFullEvaluation(chrom);
+            }
+        }
+    }
 
-                offspring.add(child1);
+    private void recordGeneration(Population population, int gen) {
+        statistics.update(gen, population.getChromosomes(), evaluations, System.nanoTime() - startNanos, usesDiversity());
+        publishGeneration();
+    }
+
+    // Diversity needs a pass over every gene, so it is computed only when something reads it
+    private boolean usesDiversity() {
+        return terminationCriterion != null && terminationCriterion.usesDiversity() || dispatcher.usesDiversity();
+    }
+
+    private void recordGeneration(GeneMatrix population, int gen) {
+        statistics.update(gen, population::getFitness, population.getRows(), evaluations, System.nanoTime() - startNanos);
+        publishGeneration();
+    }
+
+    private void publishGeneration() {
+        if (terminationCriterion != null && terminationCriterion.isSatisfied(statistics)) {
+            terminated = true;
+        }
+        if (metrics != null) {
+            metrics.recordGeneration(statistics, evaluations - recordedEvaluations);
+            recordedEvaluations = evaluations;
+        }
+        dispatcher.publish(statistics);
+    }
+
+    // Evolutionary step: create offspring via selection, crossover and mutation, evaluate them, then replace
+    // the population. Like the double-buffered step, an odd population size drops the last child unevaluated.
+    private Population nextGenerationCopying(Population population, int gen) {
+        Rng random = Rng.current();
+        long start = System.nanoTime();
+        fitness = selectMatingPool(population, fitness, matingPool);
+        long selected = System.nanoTime();
+        offspring.clear();
+        int next = 0;
+        while (offspring.size() < populationSize) {
+            Chromosome parent1 = nextParent(population, matingPool, next++);
+            Chromosome parent2 = nextParent(population, matingPool, next++);
+
+            Chromosome child1 = pool != null ? pool.copyOf(parent1) : parent1.copy();
+            Chromosome child2 = pool != null ? pool.copyOf(parent2) : parent2.copy();
+            breeder.breed(child1, child2, gen, generations, random);
+
+            offspring.add(child1);
+            if (offspring.size() < populationSize) {
                 offspring.add(child2);
+            } else if (pool != null) {
+                pool.release(child2);
             }
+        }
 
-            population = replacementStrategy.replace(population, offspring);
-            population.evaluateFitness(fitnessFunction);
+        long bred = System.nanoTime();
+        evaluate(offspring);
+        evaluations += offspring.size();
+        long evaluated = System.nanoTime();
+        population = replacementStrategy.replace(population, offspring);
+        statistics.setPhaseTimes(selected - start, bred - selected, evaluated - bred, System.nanoTime() - evaluated);
+        return population;
+    }
+
+    // Two preallocated populations swap roles every generation: children are bred in place into the
+    // spare buffer's chromosomes, so after the first generation the loop allocates nothing itself.
+    private Population nextGenerationInPlace(Population population, int gen) {
+        Rng random = Rng.current();
+        long start = System.nanoTime();
+        fitness = selectMatingPool(population, fitness, matingPool);
+        long selected = System.nanoTime();
+        List<Chromosome> slots = buffer.getChromosomes();
+        for (int i = 0; i < populationSize; i += 2) {
+            Chromosome child1 = slots.get(i);
+            Chromosome child2 = i + 1 < populationSize ? slots.get(i + 1) : spare;
+            child1.copyFrom(nextParent(population, matingPool, i));
+            child2.copyFrom(nextParent(population, matingPool, i + 1));
+            breeder.breed(child1, child2, gen, generations, random);
+        }
+        long bred = System.nanoTime();
+        evaluate(buffer.getChromosomes());
+        evaluations += buffer.getSize();
+        long evaluated = System.nanoTime();
+
+        Population next = replacementStrategy.replaceInto(population, buffer);
+        if (next != population) {
+            buffer = population;
         }
+        statistics.setPhaseTimes(selected - start, bred - selected, evaluated - bred, System.nanoTime() - evaluated);
+        return next;
+    }
+
+    private int matingPoolSize() {
+        return populationSize + (populationSize & 1);
+    }
+
+    // Draws every parent of the generation in one batch
+    private double[] selectMatingPool(Population population, double[] fitness, int[] matingPool) {
+        fitness = population.getFitnessValues(fitness);
+        selectionStrategy.selectIndices(fitness, population.getSize(), matingPool);
+        return fitness;
+    }
+
+    private Chromosome nextParent(Population population, int[] matingPool, int index) {
+        return population.getChromosomes().get(matingPool[index]);
+    }
 
-        return population.getBest();
+    // Structure-of-arrays loop: parents are loaded from their rows into two reused chromosomes, bred there
+    // and stored as rows of the offspring matrix, which is scored in one call and then trades roles with
+    // the population as the replacement strategy decides.
+    private Chromosome runRows() {
+        boolean resume = checkpointFile != null && checkpointFile.exists();
+        prepareRun();
+        BatchFitnessFunction rowScoring = batchScoring != null ? batchScoring : new BatchFitnessAdapter(scoring);
+        GeneMatrix population;
+        if (resume) {
+            Checkpoint checkpoint = readCheckpoint();
+            population = GeneMatrix.fromPopulation(checkpoint.getPopulation());
+            recordGeneration(population, checkpoint.getGeneration());
+        } else {
+            if (seed != null) {
+                Rng.setCurrent(new Rng(seed));
+            }
+            population = GeneMatrix.forPrototype(prototype, populationSize);
+            population.initialize();
+            long evaluationStart = System.nanoTime();
+            population.evaluate(rowScoring);
+            evaluations += populationSize;
+            statistics.setPhaseTimes(0, 0, System.nanoTime() - evaluationStart, 0);
+            recordGeneration(population, 0);
+        }
+        GeneMatrix offspring = GeneMatrix.forPrototype(prototype, populationSize);
+        Chromosome child1 = population.newChromosome();
+        Chromosome child2 = population.newChromosome();
+
+        for (int gen = statistics.getGeneration(); gen < generations && !terminated; gen++) {
+            Rng random = Rng.current();
+            long start = System.nanoTime();
+            selectionStrategy.selectIndices(population.getFitness(), populationSize, matingPool);
+            long selected = System.nanoTime();
+            for (int i = 0; i < populationSize; i += 2) {
+                population.storeRow(matingPool[i], child1);
+                population.storeRow(matingPool[i + 1], child2);
+                breeder.breed(child1, child2, gen, generations, random);
+                offspring.loadRow(i, child1);
+                if (i + 1 < populationSize) {
+                    offspring.loadRow(i + 1, child2);
+                }
+            }
+            long bred = System.nanoTime();
+            offspring.evaluate(rowScoring);
+            evaluations += populationSize;
+            long evaluated = System.nanoTime();
+
+            GeneMatrix next = replacementStrategy.replaceRows(population, offspring);
+            if (next != population) {
+                offspring = population;
+                population = next;
+            }
+            statistics.setPhaseTimes(selected - start, bred - selected, evaluated - bred, System.nanoTime() - evaluated);
+            recordGeneration(population, gen + 1);
+            if (checkpointFile != null && (gen + 1) % checkpointInterval == 0) {
+                checkpointFile.write(population.toPopulation(), gen + 1, evaluations, Rng.current());
+            }
+        }
+        deleteCheckpoint();
+        int best = statistics.getBestIndex();
+        if (best < 0) {
+            return null;
+        }
+        Chromosome result = population.toChromosome(best);
+        result.setFitness(population.getFitness(best));
+        return result;
     }
 }
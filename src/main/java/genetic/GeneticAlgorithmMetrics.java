@@ -0,0 +1,44 @@
+package genetic;
+
+import genetic.metrics.Counter;
+import genetic.metrics.LatencyHistogram;
+import genetic.metrics.MetricsRegistry;
+
+// Metric handles resolved once per run so the hot loop never looks up names
+class GeneticAlgorithmMetrics {
+    final Counter generations;
+    final Counter evaluations;
+    final LatencyHistogram selection;
+    final LatencyHistogram breeding;
+    final LatencyHistogram evaluation;
+    final LatencyHistogram replacement;
+    final LatencyHistogram crossover;
+    final LatencyHistogram mutation;
+    final LatencyHistogram repair;
+    final LatencyHistogram fitness;
+
+    GeneticAlgorithmMetrics(MetricsRegistry registry) {
+        generations = registry.counter("ga.generations");
+        evaluations = registry.counter("ga.evaluations");
+        selection = registry.histogram("ga.phase.selection");
+        breeding = registry.histogram("ga.phase.breeding");
+        evaluation = registry.histogram("ga.phase.evaluation");
+        replacement = registry.histogram("ga.phase.replacement");
+        crossover = registry.histogram("ga.operator.crossover");
+        mutation = registry.histogram("ga.operator.mutation");
+        repair = registry.histogram("ga.operator.repair");
+        fitness = registry.histogram("ga.operator.fitness");
+    }
+
+    void recordGeneration(GenerationStatistics statistics, long evaluationsAdded) {
+        evaluations.add(evaluationsAdded);
+        if (statistics.getGeneration() == 0) {
+            return;
+        }
+        generations.increment();
+        selection.record(statistics.getSelectionNanos());
+        breeding.record(statistics.getBreedingNanos());
+        evaluation.record(statistics.getEvaluationNanos());
+        replacement.record(statistics.getReplacementNanos());
+    }
+}
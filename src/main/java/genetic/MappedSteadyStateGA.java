@@ -0,0 +1,173 @@
+package genetic;
+
+import genetic.api.FitnessFunction;
+import genetic.api.GenerationListener;
+import genetic.api.IncrementalFitnessFunction;
+import genetic.api.InfeasibleHandler;
+import genetic.chromosome.Chromosome;
+import genetic.crossover.CrossoverOperator;
+import genetic.evaluation.DeltaFitnessFunction;
+import genetic.mutation.MutationOperator;
+import genetic.random.Rng;
+import genetic.selection.SelectionStrategy;
+import genetic.selection.TournamentSelection;
+import genetic.store.MappedPopulation;
+import genetic.termination.TerminationCriterion;
+import java.nio.file.Path;
+
+/**
+ * Steady-state GA over a MappedPopulation, for populations too large to keep on the heap. Selection and
+ * replacement work on record indices over a copy of the records' fitness values, the only per-record state
+ * on the heap; the genes of a record are loaded only when it is chosen as a parent, into one of two reused
+ * chromosomes.
+ *
+ * Each step draws two parents with the selection strategy's selectIndex, breeds and evaluates two children
+ * and writes each one over the worst of a few randomly chosen records if it is at least as fit. Every
+ * populationSize evaluations count as one generation for statistics, listeners, termination criteria and
+ * time-varying mutation; the selection strategy is prepared once per generation.
+ *
+ * The population file is recreated by every run and can be opened with MappedPopulation.openReadOnly from
+ * another process while the run is in progress. Runs are single-threaded and reproducible with a seed.
+ */
+public class MappedSteadyStateGA {
+    private Path path;
+    private int populationSize = 50;
+    private long maxEvaluations = 5000;
+    private SelectionStrategy selectionStrategy = new TournamentSelection(3);
+    private int replacementTournamentSize = 3;
+    private double crossoverProbability = 0.7;
+    private double mutationProbability = 0.05;
+    private CrossoverOperator<?> crossoverOperator;
+    private MutationOperator<?> mutationOperator;
+    private FitnessFunction fitnessFunction;
+    private InfeasibleHandler infeasibleHandler;
+    private Chromosome prototype;
+    private TerminationCriterion terminationCriterion;
+    private Long seed;
+    private final GenerationEventDispatcher dispatcher = new GenerationEventDispatcher();
+
+    // Per-run state
+    private MappedPopulation population;
+    private final GenerationStatistics statistics = new GenerationStatistics();
+    private Breeder breeder;
+    private double[] fitness;
+    private FitnessFunction scoring;
+    private long startNanos;
+
+    public void setPath(Path path) { this.path = path; }
+    public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
+    public void setMaxEvaluations(long maxEvaluations) { this.maxEvaluations = maxEvaluations; }
+    public void setSelectionStrategy(SelectionStrategy selectionStrategy) { this.selectionStrategy = selectionStrategy; }
+    public void setReplacementTournamentSize(int replacementTournamentSize) { this.replacementTournamentSize = replacementTournamentSize; }
+    public void setCrossoverProbability(double crossoverProbability) { this.crossoverProbability = crossoverProbability; }
+    public void setMutationProbability(double mutationProbability) { this.mutationProbability = mutationProbability; }
+    public void setCrossoverOperator(CrossoverOperator<?> crossoverOperator) { this.crossoverOperator = crossoverOperator; }
+    public void setMutationOperator(MutationOperator<?> mutationOperator) { this.mutationOperator = mutationOperator; }
+    public void setFitnessFunction(FitnessFunction fitnessFunction) { this.fitnessFunction = fitnessFunction; }
+    public void setInfeasibleHandler(InfeasibleHandler infeasibleHandler) { this.infeasibleHandler = infeasibleHandler; }
+    public void setPrototype(Chromosome prototype) { this.prototype = prototype; }
+    public void setTerminationCriterion(TerminationCriterion terminationCriterion) { this.terminationCriterion = terminationCriterion; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public void addGenerationListener(GenerationListener listener) { dispatcher.addListener(listener); }
+    public void removeGenerationListener(GenerationListener listener) { dispatcher.removeListener(listener); }
+
+    /**
+     * Returns the statistics of the most recent generation, updated in place as the run progresses.
+     */
+    public GenerationStatistics getStatistics() { return statistics; }
+
+    public Chromosome run() {
+        if (path == null || populationSize < 2) {
+            throw new IllegalStateException("A population file and at least two chromosomes are required");
+        }
+        breeder = new Breeder(prototype, crossoverOperator, mutationOperator, crossoverProbability, mutationProbability,
+                infeasibleHandler, null);
+        Chromosome template = prototype;
+        scoring = fitnessFunction;
+        if (fitnessFunction instanceof IncrementalFitnessFunction) {
+            IncrementalFitnessFunction incremental = (IncrementalFitnessFunction) fitnessFunction;
+            template = prototype.copy();
+            template.trackChanges(incremental.changeCapacity(prototype.getLength()));
+            scoring = new DeltaFitnessFunction(incremental);
+        }
+        if (terminationCriterion != null) {
+            terminationCriterion.reset();
+        }
+        if (seed != null) {
+            Rng.setCurrent(new Rng(seed));
+        }
+        Rng random = Rng.current();
+        Chromosome child1 = template.copy();
+        Chromosome child2 = template.copy();
+        fitness = new double[populationSize];
+        startNanos = System.nanoTime();
+
+        population = MappedPopulation.create(path, prototype, populationSize);
+        try {
+            for (int i = 0; i < populationSize; i++) {
+                child1.initialize();
+                child1.setFitness(scoring.evaluate(child1));
+                population.write(i, child1);
+                fitness[i] = child1.getFitness();
+            }
+            long evaluations = populationSize;
+            boolean terminated = recordGeneration(evaluations);
+
+            int maxGenerations = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxEvaluations / populationSize));
+            while (!terminated && evaluations < maxEvaluations) {
+                int gen = (int) Math.min(Integer.MAX_VALUE, evaluations / populationSize);
+                population.read(selectionStrategy.selectIndex(fitness, populationSize), child1);
+                population.read(selectionStrategy.selectIndex(fitness, populationSize), child2);
+                breeder.breed(child1, child2, gen, maxGenerations, random);
+
+                long before = evaluations;
+                child1.setFitness(scoring.evaluate(child1));
+                insert(child1, random);
+                evaluations++;
+                if (evaluations < maxEvaluations) {
+                    child2.setFitness(scoring.evaluate(child2));
+                    insert(child2, random);
+                    evaluations++;
+                }
+                if (before / populationSize != evaluations / populationSize) {
+                    terminated = recordGeneration(evaluations);
+                }
+            }
+
+            int[] best = new int[1];
+            population.extremeIndices(best, true);
+            Chromosome result = prototype.copy();
+            population.read(best[0], result);
+            population.force();
+            return result;
+        } finally {
+            population.close();
+            population = null;
+        }
+    }
+
+    // Replaces the worst of a random sample if the child is at least as fit
+    private void insert(Chromosome child, Rng random) {
+        int victim = -1;
+        double worstFitness = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < replacementTournamentSize; i++) {
+            int candidate = random.nextInt(populationSize);
+            if (victim < 0 || fitness[candidate] < worstFitness) {
+                victim = candidate;
+                worstFitness = fitness[candidate];
+            }
+        }
+        if (child.getFitness() >= worstFitness) {
+            population.write(victim, child);
+            fitness[victim] = child.getFitness();
+        }
+    }
+
+    private boolean recordGeneration(long evaluationCount) {
+        int gen = (int) Math.min(Integer.MAX_VALUE, evaluationCount / populationSize) - 1;
+        statistics.update(gen, i -> fitness[i], populationSize, evaluationCount, System.nanoTime() - startNanos);
+        dispatcher.publish(statistics);
+        selectionStrategy.prepare(fitness, populationSize);
+        return terminationCriterion != null && terminationCriterion.isSatisfied(statistics);
+    }
+}
@@ -2,6 +2,7 @@ package genetic;
 
 import genetic.api.FitnessFunction;
 import genetic.chromosome.Chromosome;
+import genetic.evaluation.FitnessEvaluator;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -38,18 +39,80 @@ public class Population {
         }
     }
 
+    public void evaluateFitness(FitnessFunction fitnessFunction, FitnessEvaluator evaluator) {
+        evaluator.evaluate(chromosomes, fitnessFunction);
+    }
+
+
     public void sortByFitness() {
         chromosomes.sort(Comparator.comparingDouble(Chromosome::getFitness));
     }
 
     public Chromosome getBest() {
-        // Uses stream to find chromosome with maximum fitness
-        return chromosomes.stream().max(Comparator.comparingDouble(Chromosome::getFitness)).orElse(null);
+        Chromosome best = null;
+        for (Chromosome chrom : chromosomes) {
+            if (best == null || chrom.getFitness() > best.getFitness()) {
+                best = chrom;
+            }
+        }
+        return best;
     }
 
     public Chromosome getWorst() {
-        // Uses stream to find chromosome with minimum fitness
-        return chromosomes.stream().min(Comparator.comparingDouble(Chromosome::getFitness)).orElse(null);
+        Chromosome worst = null;
+        for (Chromosome chrom : chromosomes) {
+            if (worst == null || chrom.getFitness() < worst.getFitness()) {
+                worst = chrom;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Fills out with the indices of the out.length fittest (best = true) or least fit chromosomes,
+     * ordered from most to least extreme, without sorting or copying the population.
+     */
+    public void extremeIndices(int[] out, boolean best) {
+        extremeIndices(out, out.length, best);
+    }
+
+    /**
+     * Like extremeIndices(int[], boolean), but fills only out[0, count), so one buffer serves any count.
+     */
+    public void extremeIndices(int[] out, int count, boolean best) {
+        if (count == 0) {
+            return;
+        }
+        int filled = 0;
+        for (int i = 0; i < chromosomes.size(); i++) {
+            double value = chromosomes.get(i).getFitness();
+            if (filled == count && !isBefore(value, chromosomes.get(out[filled - 1]).getFitness(), best)) {
+                continue;
+            }
+            int pos = filled < count ? filled++ : filled - 1;
+            while (pos > 0 && isBefore(value, chromosomes.get(out[pos - 1]).getFitness(), best)) {
+                out[pos] = out[pos - 1];
+                pos--;
+            }
+            out[pos] = i;
+        }
+    }
+
+    private static boolean isBefore(double a, double b, boolean descending) {
+        return descending ? a > b : a < b;
+    }
+
+    /**
+     * Copies the fitness of every chromosome into buffer, allocating a new array only if buffer is null or too small.
+     */
+    public double[] getFitnessValues(double[] buffer) {
+        if (buffer == null || buffer.length < chromosomes.size()) {
+            buffer = new double[chromosomes.size()];
+        }
+        for (int i = 0; i < chromosomes.size(); i++) {
+            buffer[i] = chromosomes.get(i).getFitness();
+        }
+        return buffer;
     }
 
     public List<Chromosome> getChromosomes() {
@@ -4,4 +4,12 @@ import genetic.chromosome.Chromosome;
 
 public interface FitnessFunction {
     double evaluate(Chromosome chromosome);
+
+    /**
+     * Returns true if evaluate may be called concurrently from several threads.
+     * Parallel evaluators fall back to sequential evaluation when this is false.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
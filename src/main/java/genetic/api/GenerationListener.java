@@ -0,0 +1,19 @@
+package genetic.api;
+
+import genetic.GenerationStatistics;
+
+/**
+ * Receives the statistics of every generation, starting with the initial population.
+ * Listeners are called on a background thread, one event at a time and in generation order,
+ * so a slow listener delays later events but never the evolution itself.
+ */
+public interface GenerationListener {
+    void onGeneration(GenerationStatistics statistics);
+
+    /**
+     * Returns true if the listener reads GenerationStatistics.getDiversity, which is otherwise not computed.
+     */
+    default boolean usesDiversity() {
+        return false;
+    }
+}
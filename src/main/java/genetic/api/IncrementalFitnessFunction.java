@@ -0,0 +1,24 @@
+package genetic.api;
+
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.GeneChanges;
+
+/**
+ * Fitness function that can update a previous score from the genes that changed since, instead of
+ * evaluating the whole chromosome. The engines track gene changes and call evaluateDelta when a
+ * function implements this interface.
+ */
+public interface IncrementalFitnessFunction extends FitnessFunction {
+    /**
+     * Returns the fitness of chromosome, given the fitness it had before the recorded changes.
+     * The changes list each changed gene once, with the value it had before its first change.
+     */
+    double evaluateDelta(Chromosome chromosome, double previousFitness, GeneChanges changes);
+
+    /**
+     * Returns how many changed genes to record per chromosome before falling back to evaluate.
+     */
+    default int changeCapacity(int genomeLength) {
+        return Math.max(8, genomeLength / 8);
+    }
+}
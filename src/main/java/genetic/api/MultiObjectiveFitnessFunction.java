@@ -0,0 +1,23 @@
+package genetic.api;
+
+import genetic.chromosome.Chromosome;
+
+/**
+ * Scores a chromosome on several objectives at once. Like FitnessFunction, higher is better for every
+ * objective; negate costs that should be minimized.
+ */
+public interface MultiObjectiveFitnessFunction {
+    int getObjectiveCount();
+
+    /**
+     * Writes the getObjectiveCount objective values of the chromosome into objectives, starting at offset.
+     */
+    void evaluate(Chromosome chromosome, double[] objectives, int offset);
+
+    /**
+     * Returns true if evaluate may be called concurrently from several threads.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+}
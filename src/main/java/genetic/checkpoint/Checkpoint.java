@@ -0,0 +1,30 @@
+package genetic.checkpoint;
+
+import genetic.Population;
+import genetic.random.Rng;
+
+/**
+ * State of a run after a completed generation, as restored from a CheckpointFile.
+ */
+public class Checkpoint {
+    private final int generation;
+    private final long evaluations;
+    private final Rng rng;
+    private final Population population;
+
+    public Checkpoint(int generation, long evaluations, Rng rng, Population population) {
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.rng = rng;
+        this.population = population;
+    }
+
+    public int getGeneration() { return generation; }
+    public long getEvaluations() { return evaluations; }
+
+    /**
+     * Returns the random stream positioned where the checkpointed run would have continued.
+     */
+    public Rng getRng() { return rng; }
+    public Population getPopulation() { return population; }
+}
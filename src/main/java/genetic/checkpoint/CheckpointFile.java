@@ -0,0 +1,212 @@
+package genetic.checkpoint;
+
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Binary checkpoint of a run: generation, evaluation count, random stream state and every chromosome's
+ * fitness and genes as written by Chromosome.writeGenes, behind a small header.
+ *
+ * write encodes the snapshot on the calling thread and leaves the disk I/O to a background thread,
+ * which writes a temporary file through a FileChannel, forces it to disk and atomically renames it
+ * over the previous checkpoint. A reader therefore always sees a complete snapshot. If snapshots arrive
+ * faster than the disk takes them, only the newest pending one is written.
+ */
+public class CheckpointFile {
+    private static final int MAGIC = 0x47414350; // "GACP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES + Rng.STATE_BYTES + 2 * Integer.BYTES;
+
+    private final Path path;
+    private final Path temporary;
+    private final AtomicReference<ByteBuffer> pending = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private final ThreadPoolExecutor writer;
+
+    public CheckpointFile(Path path) {
+        this.path = path;
+        this.temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        this.writer = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean exists() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Snapshots the population and schedules it to be written in the background.
+     *
+     * @throws UncheckedIOException if an earlier background write failed
+     */
+    public void write(Population population, int generation, long evaluations, Rng rng) {
+        rethrowFailure();
+        ByteBuffer data = encode(population, generation, evaluations, rng);
+        if (pending.getAndSet(data) == null) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Blocks until every scheduled snapshot is on disk.
+     *
+     * @throws UncheckedIOException if a background write failed
+     */
+    public void awaitWrites() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for checkpoint", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Checkpoint writer failed", e.getCause());
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Reads the checkpoint, creating its chromosomes as copies of the prototype.
+     *
+     * @throws IllegalStateException if the file is not a checkpoint for chromosomes like the prototype
+     */
+    public Checkpoint read(Chromosome prototype) {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = ByteBuffer.allocate((int) channel.size());
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // keep reading until the buffer is full
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read checkpoint " + path, e);
+        }
+        data.flip();
+
+        if (data.remaining() < HEADER_BYTES || data.getInt() != MAGIC) {
+            throw new IllegalStateException(path + " is not a checkpoint");
+        }
+        int version = data.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported checkpoint version " + version);
+        }
+        int generation = data.getInt();
+        long evaluations = data.getLong();
+        Rng rng = Rng.readState(data);
+        int size = data.getInt();
+        int length = data.getInt();
+        int geneBytes = data.getInt();
+        if (length != prototype.getLength() || geneBytes != prototype.geneBytes()
+                || data.remaining() != (long) size * recordBytes(geneBytes)) {
+            throw new IllegalStateException(path + " does not hold chromosomes like " + prototype.getClass().getSimpleName());
+        }
+
+        List<Chromosome> chromosomes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double fitness = data.getDouble();
+            boolean evaluated = data.get() != 0;
+            Chromosome chromosome = prototype.copy();
+            chromosome.readGenes(data);
+            chromosome.setFitness(fitness);
+            if (!evaluated) {
+                chromosome.invalidateFitness();
+            }
+            chromosomes.add(chromosome);
+        }
+        return new Checkpoint(generation, evaluations, rng, new Population(chromosomes));
+    }
+
+    /**
+     * Deletes the checkpoint after any pending writes have finished.
+     */
+    public void delete() {
+        awaitWrites();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete checkpoint " + path, e);
+        }
+    }
+
+    private static ByteBuffer encode(Population population, int generation, long evaluations, Rng rng) {
+        List<Chromosome> chromosomes = population.getChromosomes();
+        Chromosome first = chromosomes.get(0);
+        int geneBytes = first.geneBytes();
+        ByteBuffer data = ByteBuffer.allocate(HEADER_BYTES + chromosomes.size() * recordBytes(geneBytes));
+        data.putInt(MAGIC);
+        data.putInt(VERSION);
+        data.putInt(generation);
+        data.putLong(evaluations);
+        rng.writeState(data);
+        data.putInt(chromosomes.size());
+        data.putInt(first.getLength());
+        data.putInt(geneBytes);
+        for (Chromosome chromosome : chromosomes) {
+            data.putDouble(chromosome.getFitness());
+            data.put((byte) (chromosome.isEvaluated() ? 1 : 0));
+            chromosome.writeGenes(data);
+        }
+        data.flip();
+        return data;
+    }
+
+    private static int recordBytes(int geneBytes) {
+        return Double.BYTES + 1 + geneBytes;
+    }
+
+    private void drain() {
+        ByteBuffer data = pending.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+            return;
+        }
+        try {
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void rethrowFailure() {
+        IOException e = failure.getAndSet(null);
+        if (e != null) {
+            throw new UncheckedIOException("Could not write checkpoint " + path, e);
+        }
+    }
+}
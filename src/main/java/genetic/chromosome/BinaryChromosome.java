@@ -1,12 +1,13 @@
 package genetic.chromosome;
 
+import genetic.random.Rng;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 public class BinaryChromosome extends Chromosome {
     private boolean[] genes;
-    private Random random = new Random();
 
     public BinaryChromosome(int length) {
         this.genes = new boolean[length];
@@ -14,6 +15,9 @@ public class BinaryChromosome extends Chromosome {
 
     @Override
     public void initialize() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
         for (int i = 0; i < genes.length; i++) {
             genes[i] = random.nextBoolean();
         }
@@ -21,6 +25,7 @@ public class BinaryChromosome extends Chromosome {
 
     @Override
     public List<Chromosome> crossover(Chromosome other) {
+        Rng random = Rng.current();
         BinaryChromosome parent2 = (BinaryChromosome) other;
         int point = random.nextInt(genes.length);
         BinaryChromosome offspring1 = new BinaryChromosome(genes.length);
@@ -44,6 +49,9 @@ public class BinaryChromosome extends Chromosome {
 
     @Override
     public void mutate() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
         for (int i = 0; i < genes.length; i++) {
             if (random.nextDouble() < 0.05) {
                 genes[i] = !genes[i];
@@ -61,10 +69,141 @@ public class BinaryChromosome extends Chromosome {
         BinaryChromosome copy = new BinaryChromosome(genes.length);
         System.arraycopy(this.genes, 0, copy.genes, 0, genes.length);
         copy.fitness = this.fitness;
+        copy.evaluated = this.evaluated;
+        copyChangesTo(copy);
         return copy;
     }
 
+    @Override
+    public void copyFrom(Chromosome source) {
+        BinaryChromosome other = (BinaryChromosome) source;
+        System.arraycopy(other.genes, 0, genes, 0, genes.length);
+        this.fitness = other.fitness;
+        this.evaluated = other.evaluated;
+        copyChangesFrom(other);
+    }
+
+    @Override
+    public void swapGenes(Chromosome other, int from, int to) {
+        swapRange((BinaryChromosome) other, from, to);
+    }
+
+    @Override
+    public int genotypeHash() {
+        return Arrays.hashCode(genes);
+    }
+
+    @Override
+    public boolean sameGenotype(Chromosome other) {
+        return other instanceof BinaryChromosome && Arrays.equals(genes, ((BinaryChromosome) other).genes);
+    }
+
+    // Eight genes per byte, first gene in the lowest bit
+    @Override
+    public int geneBytes() {
+        return (genes.length + 7) >>> 3;
+    }
+
+    @Override
+    public void writeGenes(ByteBuffer buffer) {
+        for (int i = 0; i < genes.length; i += 8) {
+            int bits = 0;
+            for (int j = 0; j < 8 && i + j < genes.length; j++) {
+                if (genes[i + j]) {
+                    bits |= 1 << j;
+                }
+            }
+            buffer.put((byte) bits);
+        }
+    }
+
+    @Override
+    public void readGenes(ByteBuffer buffer) {
+        for (int i = 0; i < genes.length; i += 8) {
+            int bits = buffer.get();
+            for (int j = 0; j < 8 && i + j < genes.length; j++) {
+                genes[i + j] = (bits & (1 << j)) != 0;
+            }
+        }
+        evaluated = false;
+        recordRewrite();
+    }
+
+    @Override
+    public boolean addGenesTo(GeneMoments moments) {
+        for (int i = 0; i < genes.length; i++) {
+            if (genes[i]) {
+                moments.add(i, 1);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the genes. Use getGene/setGene, copyGenesTo or swapGenes to work without allocating.
+     */
     public boolean[] getGenes() {
         return genes.clone();
     }
+
+    public boolean getGene(int index) {
+        return genes[index];
+    }
+
+    public void setGene(int index, boolean value) {
+        if (genes[index] != value) {
+            recordChange(index, genes[index] ? 1 : 0);
+        }
+        genes[index] = value;
+        evaluated = false;
+    }
+
+    /**
+     * Exchanges genes [from, to) with the other chromosome.
+     */
+    public void swapRange(BinaryChromosome other, int from, int to) {
+        for (int i = from; i < to; i++) {
+            swapGene(other, i);
+        }
+        evaluated = false;
+        other.evaluated = false;
+    }
+
+    /**
+     * Exchanges gene from + j with the other chromosome for every bit j set in mask; bits that would
+     * address genes past the last one are ignored.
+     */
+    public void swapMasked(BinaryChromosome other, int from, long mask) {
+        while (mask != 0) {
+            int i = from + Long.numberOfTrailingZeros(mask);
+            if (i >= genes.length) {
+                break;
+            }
+            swapGene(other, i);
+            mask &= mask - 1;
+        }
+        evaluated = false;
+        other.evaluated = false;
+    }
+
+    private void swapGene(BinaryChromosome other, int i) {
+        boolean[] otherGenes = other.genes;
+        if (genes[i] != otherGenes[i]) {
+            recordChange(i, genes[i] ? 1 : 0);
+            other.recordChange(i, otherGenes[i] ? 1 : 0);
+        }
+        boolean temp = genes[i];
+        genes[i] = otherGenes[i];
+        otherGenes[i] = temp;
+    }
+
+    public void copyGenesTo(boolean[] target, int offset) {
+        System.arraycopy(genes, 0, target, offset, genes.length);
+    }
+
+    public void setGenes(boolean[] source, int offset) {
+        System.arraycopy(source, offset, genes, 0, genes.length);
+        evaluated = false;
+        recordRewrite();
+    }
 }
@@ -1,9 +1,12 @@
 package genetic.chromosome;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public abstract class Chromosome {
     protected double fitness;
+    protected boolean evaluated;
+    protected GeneChanges changes;
 
     public abstract void initialize();
 
@@ -17,9 +20,114 @@ public abstract class Chromosome {
 
     public void setFitness(double fitness) {
         this.fitness = fitness;
+        this.evaluated = true;
+        if (changes != null) {
+            changes.clear();
+        }
+    }
+
+    /**
+     * Returns true if the fitness was set after the genes last changed.
+     */
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    public void invalidateFitness() {
+        this.evaluated = false;
+    }
+
+    /**
+     * Starts recording which genes change between fitness evaluations, up to capacity genes,
+     * for use by an IncrementalFitnessFunction. Copies inherit the tracking.
+     */
+    public void trackChanges(int capacity) {
+        changes = new GeneChanges(getLength(), capacity);
+        if (!evaluated) {
+            changes.overflow();
+        }
+    }
+
+    /**
+     * Returns the genes changed since the fitness was last set, or null if changes are not tracked.
+     */
+    public GeneChanges getChanges() {
+        return changes;
+    }
+
+    protected void recordChange(int position, double previousValue) {
+        if (changes != null) {
+            changes.record(position, previousValue);
+        }
+    }
+
+    // Called when all genes may have changed
+    protected void recordRewrite() {
+        if (changes != null) {
+            changes.overflow();
+        }
+    }
+
+    // For copy(): the copy gets its own record of the same pending changes
+    protected void copyChangesTo(Chromosome copy) {
+        if (changes != null) {
+            copy.changes = changes.copy();
+        }
+    }
+
+    // For copyFrom(): pending changes are adopted together with the source's genes and fitness
+    protected void copyChangesFrom(Chromosome source) {
+        if (changes == null) {
+            return;
+        }
+        if (source.changes != null) {
+            changes.copyFrom(source.changes);
+        } else if (source.evaluated) {
+            changes.clear();
+            changes.setDeltaDepth(0);
+        } else {
+            changes.overflow();
+        }
     }
 
     public abstract int getLength();
 
     public abstract Chromosome copy();
+
+    /**
+     * Overwrites this chromosome's genes and fitness with those of a chromosome of the same type and length.
+     */
+    public abstract void copyFrom(Chromosome source);
+
+    /**
+     * Exchanges genes [from, to) with another chromosome of the same type and length.
+     */
+    public abstract void swapGenes(Chromosome other, int from, int to);
+
+    public abstract int genotypeHash();
+
+    public abstract boolean sameGenotype(Chromosome other);
+
+    /**
+     * Returns the number of bytes writeGenes produces.
+     */
+    public abstract int geneBytes();
+
+    /**
+     * Writes the genes, without fitness, in a compact binary form.
+     */
+    public abstract void writeGenes(ByteBuffer buffer);
+
+    /**
+     * Reads genes written by a chromosome of the same type and length and invalidates the fitness.
+     */
+    public abstract void readGenes(ByteBuffer buffer);
+
+    /**
+     * Adds every gene, scaled to [0, 1], to moments. Returns false if the genes have no such scale,
+     * in which case the population's diversity is unknown.
+     */
+    public boolean addGenesTo(GeneMoments moments) {
+        return false;
+    }
 }
@@ -0,0 +1,78 @@
+package genetic.chromosome;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recycles chromosomes of one type and length. Released chromosomes go onto a free list of the releasing
+ * thread, and copyOf reuses one from the calling thread's list before allocating, so a loop that releases
+ * as many chromosomes as it copies stops allocating once the lists have filled up.
+ *
+ * A released chromosome must no longer be referenced: its genes and fitness are overwritten when it is reused.
+ */
+public class ChromosomePool {
+    private final Chromosome prototype;
+    private final int maxFreePerThread;
+    private final ThreadLocal<ArrayDeque<Chromosome>> free = ThreadLocal.withInitial(ArrayDeque::new);
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     * Creates a pool for chromosomes like the prototype, keeping at most maxFreePerThread free chromosomes per thread.
+     */
+    public ChromosomePool(Chromosome prototype, int maxFreePerThread) {
+        if (maxFreePerThread < 0) {
+            throw new IllegalArgumentException("maxFreePerThread must not be negative");
+        }
+        this.prototype = prototype;
+        this.maxFreePerThread = maxFreePerThread;
+    }
+
+    /**
+     * Returns a chromosome with the genes, fitness and change record of source, reusing a free one if possible.
+     */
+    public Chromosome copyOf(Chromosome source) {
+        Chromosome chromosome = free.get().pollLast();
+        if (chromosome == null) {
+            allocated.incrementAndGet();
+            return source.copy();
+        }
+        reused.incrementAndGet();
+        chromosome.copyFrom(source);
+        return chromosome;
+    }
+
+    /**
+     * Hands a chromosome that is no longer used back to the pool. Chromosomes of another type or length are ignored.
+     */
+    public void release(Chromosome chromosome) {
+        if (chromosome.getClass() != prototype.getClass() || chromosome.getLength() != prototype.getLength()) {
+            return;
+        }
+        ArrayDeque<Chromosome> list = free.get();
+        if (list.size() < maxFreePerThread) {
+            list.addLast(chromosome);
+        }
+    }
+
+    /**
+     * Returns the number of chromosomes copyOf had to allocate.
+     */
+    public long getAllocated() {
+        return allocated.get();
+    }
+
+    /**
+     * Returns the number of chromosomes copyOf took from a free list.
+     */
+    public long getReused() {
+        return reused.get();
+    }
+
+    /**
+     * Returns the number of free chromosomes held for the calling thread.
+     */
+    public int getFreeCount() {
+        return free.get().size();
+    }
+}
@@ -1,14 +1,16 @@
 package genetic.chromosome;
 
+import genetic.random.Rng;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 public class FloatChromosome extends Chromosome {
     private double[] genes;
     private double minValue;
     private double maxValue;
-    private Random random = new Random();
 
     public FloatChromosome(int length, double minValue, double maxValue) {
         this.genes = new double[length];
@@ -18,6 +20,9 @@ public class FloatChromosome extends Chromosome {
 
     @Override
     public void initialize() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
         for (int i = 0; i < genes.length; i++) {
             genes[i] = minValue + (maxValue - minValue) * random.nextDouble();
         }
@@ -25,6 +30,7 @@ public class FloatChromosome extends Chromosome {
 
     @Override
     public List<Chromosome> crossover(Chromosome other) {
+        Rng random = Rng.current();
         FloatChromosome parent2 = (FloatChromosome) other;
         int point = random.nextInt(genes.length);
         FloatChromosome offspring1 = new FloatChromosome(genes.length, minValue, maxValue);
@@ -48,6 +54,9 @@ public class FloatChromosome extends Chromosome {
 
     @Override
     public void mutate() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
         for (int i = 0; i < genes.length; i++) {
             if (random.nextDouble() < 0.05) {
                 double stdDev = (maxValue - minValue) * 0.1;
@@ -67,13 +76,140 @@ public class FloatChromosome extends Chromosome {
         FloatChromosome copy = new FloatChromosome(genes.length, minValue, maxValue);
         System.arraycopy(this.genes, 0, copy.genes, 0, genes.length);
         copy.fitness = this.fitness;
+        copy.evaluated = this.evaluated;
+        copyChangesTo(copy);
         return copy;
     }
 
+    @Override
+    public void copyFrom(Chromosome source) {
+        FloatChromosome other = (FloatChromosome) source;
+        System.arraycopy(other.genes, 0, genes, 0, genes.length);
+        this.minValue = other.minValue;
+        this.maxValue = other.maxValue;
+        this.fitness = other.fitness;
+        this.evaluated = other.evaluated;
+        copyChangesFrom(other);
+    }
+
+    @Override
+    public void swapGenes(Chromosome other, int from, int to) {
+        swapRange((FloatChromosome) other, from, to);
+    }
+
+    @Override
+    public int genotypeHash() {
+        return Arrays.hashCode(genes);
+    }
+
+    @Override
+    public boolean sameGenotype(Chromosome other) {
+        return other instanceof FloatChromosome && Arrays.equals(genes, ((FloatChromosome) other).genes);
+    }
+
+    @Override
+    public int geneBytes() {
+        return genes.length * Double.BYTES;
+    }
+
+    @Override
+    public void writeGenes(ByteBuffer buffer) {
+        buffer.asDoubleBuffer().put(genes);
+        buffer.position(buffer.position() + geneBytes());
+    }
+
+    @Override
+    public void readGenes(ByteBuffer buffer) {
+        buffer.asDoubleBuffer().get(genes);
+        buffer.position(buffer.position() + geneBytes());
+        evaluated = false;
+        recordRewrite();
+    }
+
+    @Override
+    public boolean addGenesTo(GeneMoments moments) {
+        double range = maxValue - minValue;
+        for (int i = 0; i < genes.length; i++) {
+            moments.add(i, range > 0 ? (genes[i] - minValue) / range : 0);
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the genes. Use getGene/setGene, copyGenesTo or swapGenes to work without allocating.
+     */
     public double[] getGenes() {
         return genes.clone();
     }
 
+    public double getGene(int index) {
+        return genes[index];
+    }
+
+    public void setGene(int index, double value) {
+        if (genes[index] != value) {
+            recordChange(index, genes[index]);
+        }
+        genes[index] = value;
+        evaluated = false;
+    }
+
+    /**
+     * Returns a read-only view of the genes that shares storage with this chromosome.
+     */
+    public DoubleBuffer geneView() {
+        return DoubleBuffer.wrap(genes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Exchanges genes [from, to) with the other chromosome.
+     */
+    public void swapRange(FloatChromosome other, int from, int to) {
+        for (int i = from; i < to; i++) {
+            swapGene(other, i);
+        }
+        evaluated = false;
+        other.evaluated = false;
+    }
+
+    /**
+     * Exchanges gene from + j with the other chromosome for every bit j set in mask; bits that would
+     * address genes past the last one are ignored.
+     */
+    public void swapMasked(FloatChromosome other, int from, long mask) {
+        while (mask != 0) {
+            int i = from + Long.numberOfTrailingZeros(mask);
+            if (i >= genes.length) {
+                break;
+            }
+            swapGene(other, i);
+            mask &= mask - 1;
+        }
+        evaluated = false;
+        other.evaluated = false;
+    }
+
+    private void swapGene(FloatChromosome other, int i) {
+        double[] otherGenes = other.genes;
+        if (genes[i] != otherGenes[i]) {
+            recordChange(i, genes[i]);
+            other.recordChange(i, otherGenes[i]);
+        }
+        double temp = genes[i];
+        genes[i] = otherGenes[i];
+        otherGenes[i] = temp;
+    }
+
+    public void copyGenesTo(double[] target, int offset) {
+        System.arraycopy(genes, 0, target, offset, genes.length);
+    }
+
+    public void setGenes(double[] source, int offset) {
+        System.arraycopy(source, offset, genes, 0, genes.length);
+        evaluated = false;
+        recordRewrite();
+    }
+
     public double getMinValue() {
         return minValue;
     }
@@ -0,0 +1,104 @@
+package genetic.chromosome;
+
+/**
+ * Records which genes of a chromosome changed since its fitness was last set, with the value each gene
+ * had before its first change, so an incremental fitness function can update the old score in O(changes).
+ *
+ * Values are stored as doubles: booleans as 0 or 1, ints exactly. Once more genes change than the
+ * capacity allows, or the chromosome is changed wholesale, the record is marked complete-rewrite and a
+ * full evaluation is required until the fitness is set again.
+ */
+public class GeneChanges {
+    private final int[] positions;
+    private final double[] previous;
+    private final long[] marked;
+    private int size;
+    private boolean overflowed;
+    private int deltaDepth;
+
+    GeneChanges(int length, int capacity) {
+        this.positions = new int[capacity];
+        this.previous = new double[capacity];
+        this.marked = new long[(length + 63) >>> 6];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getPosition(int index) {
+        return positions[index];
+    }
+
+    public double getPreviousValue(int index) {
+        return previous[index];
+    }
+
+    /**
+     * Returns true if the changes were not fully recorded and the fitness must be computed from scratch.
+     */
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+
+    /**
+     * Returns how many incremental evaluations the current fitness is removed from a full one.
+     */
+    public int getDeltaDepth() {
+        return deltaDepth;
+    }
+
+    public void setDeltaDepth(int deltaDepth) {
+        this.deltaDepth = deltaDepth;
+    }
+
+    void record(int position, double previousValue) {
+        if (overflowed || (marked[position >>> 6] & (1L << position)) != 0) {
+            return;
+        }
+        if (size == positions.length) {
+            overflow();
+            return;
+        }
+        marked[position >>> 6] |= 1L << position;
+        positions[size] = position;
+        previous[size] = previousValue;
+        size++;
+    }
+
+    void overflow() {
+        unmark();
+        overflowed = true;
+    }
+
+    // Makes the current genes the new baseline
+    void clear() {
+        unmark();
+        overflowed = false;
+    }
+
+    void copyFrom(GeneChanges source) {
+        unmark();
+        overflowed = source.overflowed || source.size > positions.length;
+        deltaDepth = source.deltaDepth;
+        if (!overflowed) {
+            for (int i = 0; i < source.size; i++) {
+                record(source.positions[i], source.previous[i]);
+            }
+        }
+    }
+
+    GeneChanges copy() {
+        GeneChanges copy = new GeneChanges(marked.length << 6, positions.length);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    // Marks are cleared word by word, which is safe because every marked position is in the list
+    private void unmark() {
+        for (int i = 0; i < size; i++) {
+            marked[positions[i] >>> 6] = 0;
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,124 @@
+package genetic.chromosome;
+
+import java.util.Arrays;
+
+/**
+ * Accumulates, for every gene position of a population, the sum and the sum of squares of the gene's
+ * value scaled to [0, 1], from which the population's genotypic diversity follows. Chromosomes add their
+ * own genes through Chromosome.addGenesTo.
+ *
+ * Packed bits are counted a word at a time in bit-sliced counters: plane p holds bit p of the number of
+ * chromosomes with each gene set, so adding a word is a ripple-carry add over the planes that takes two
+ * word operations per plane the carry reaches, about two per word on average. The per-gene counts are
+ * read out of the planes once, when the diversity is computed.
+ */
+public class GeneMoments {
+    private double[] sums = new double[0];
+    private double[] squares = new double[0];
+    private long[][] planes = new long[0][];
+    private int planeCount;
+    private int length;
+    private int count;
+    private boolean known;
+
+    /**
+     * Clears the moments for a population of chromosomes with length genes.
+     */
+    public void start(int length) {
+        if (sums.length != length) {
+            sums = new double[length];
+            squares = new double[length];
+            planes = new long[0][];
+        } else {
+            Arrays.fill(sums, 0);
+            Arrays.fill(squares, 0);
+            for (int p = 0; p < planeCount; p++) {
+                Arrays.fill(planes[p], 0);
+            }
+        }
+        this.planeCount = 0;
+        this.length = length;
+        this.count = 0;
+        this.known = length > 0;
+    }
+
+    /**
+     * Adds the genes of one chromosome. A chromosome of another length, or one that cannot report scaled
+     * genes, leaves the diversity unknown.
+     */
+    public void add(Chromosome chromosome) {
+        if (!known) {
+            return;
+        }
+        known = chromosome.getLength() == length && chromosome.addGenesTo(this);
+        count++;
+    }
+
+    /**
+     * Adds the value of one gene, scaled to [0, 1].
+     */
+    public void add(int gene, double value) {
+        sums[gene] += value;
+        squares[gene] += value * value;
+    }
+
+    // Adds one to the count of every gene whose bit is set, with the genes packed 64 to a word
+    void addWords(long[] words) {
+        for (int w = 0; w < words.length; w++) {
+            long carry = words[w];
+            for (int p = 0; carry != 0; p++) {
+                if (p == planeCount) {
+                    addPlane(words.length);
+                }
+                long[] plane = planes[p];
+                long bits = plane[w];
+                plane[w] = bits ^ carry;
+                carry &= bits;
+            }
+        }
+    }
+
+    private void addPlane(int words) {
+        if (planeCount == planes.length) {
+            planes = Arrays.copyOf(planes, planeCount + 1);
+            planes[planeCount] = new long[words];
+        }
+        planeCount++;
+    }
+
+    /**
+     * Returns the mean over the genes of the standard deviation of their scaled values, or NaN if no
+     * chromosome was added or a chromosome's genes were unknown.
+     */
+    public double diversity() {
+        if (!known || count == 0) {
+            return Double.NaN;
+        }
+        flushPlanes();
+        double total = 0;
+        for (int g = 0; g < length; g++) {
+            double mean = sums[g] / count;
+            total += Math.sqrt(Math.max(0, squares[g] / count - mean * mean));
+        }
+        return total / length;
+    }
+
+    // Bits are 0 or 1, so a gene's count is both its sum and its sum of squares
+    private void flushPlanes() {
+        if (planeCount == 0) {
+            return;
+        }
+        for (int g = 0; g < length; g++) {
+            int bits = 0;
+            for (int p = 0; p < planeCount; p++) {
+                bits |= (int) ((planes[p][g >>> 6] >>> g) & 1) << p;
+            }
+            sums[g] += bits;
+            squares[g] += bits;
+        }
+        for (int p = 0; p < planeCount; p++) {
+            Arrays.fill(planes[p], 0);
+        }
+        planeCount = 0;
+    }
+}
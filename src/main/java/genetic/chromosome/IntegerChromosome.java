@@ -1,14 +1,16 @@
 package genetic.chromosome;
 
+import genetic.random.Rng;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 public class IntegerChromosome extends Chromosome {
     private int[] genes;
     private int minValue;
     private int maxValue;
-    private Random random = new Random();
 
     public IntegerChromosome(int length, int minValue, int maxValue) {
         this.genes = new int[length];
@@ -18,6 +20,9 @@ public class IntegerChromosome extends Chromosome {
 
     @Override
     public void initialize() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
         for (int i = 0; i < genes.length; i++) {
             genes[i] = random.nextInt(maxValue - minValue + 1) + minValue;
         }
@@ -25,6 +30,7 @@ public class IntegerChromosome extends Chromosome {
 
     @Override
     public List<Chromosome> crossover(Chromosome other) {
+        Rng random = Rng.current();
         IntegerChromosome parent2 = (IntegerChromosome) other;
         int point = random.nextInt(genes.length);
         IntegerChromosome offspring1 = new IntegerChromosome(genes.length, minValue, maxValue);
@@ -48,6 +54,9 @@ public class IntegerChromosome extends Chromosome {
 
     @Override
     public void mutate() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
         for (int i = 0; i < genes.length; i++) {
             if (random.nextDouble() < 0.05) {
                 int j = random.nextInt(genes.length);
@@ -68,13 +77,140 @@ public class IntegerChromosome extends Chromosome {
         IntegerChromosome copy = new IntegerChromosome(genes.length, minValue, maxValue);
         System.arraycopy(this.genes, 0, copy.genes, 0, genes.length);
         copy.fitness = this.fitness;
+        copy.evaluated = this.evaluated;
+        copyChangesTo(copy);
         return copy;
     }
 
+    @Override
+    public void copyFrom(Chromosome source) {
+        IntegerChromosome other = (IntegerChromosome) source;
+        System.arraycopy(other.genes, 0, genes, 0, genes.length);
+        this.minValue = other.minValue;
+        this.maxValue = other.maxValue;
+        this.fitness = other.fitness;
+        this.evaluated = other.evaluated;
+        copyChangesFrom(other);
+    }
+
+    @Override
+    public void swapGenes(Chromosome other, int from, int to) {
+        swapRange((IntegerChromosome) other, from, to);
+    }
+
+    @Override
+    public int genotypeHash() {
+        return Arrays.hashCode(genes);
+    }
+
+    @Override
+    public boolean sameGenotype(Chromosome other) {
+        return other instanceof IntegerChromosome && Arrays.equals(genes, ((IntegerChromosome) other).genes);
+    }
+
+    @Override
+    public int geneBytes() {
+        return genes.length * Integer.BYTES;
+    }
+
+    @Override
+    public void writeGenes(ByteBuffer buffer) {
+        buffer.asIntBuffer().put(genes);
+        buffer.position(buffer.position() + geneBytes());
+    }
+
+    @Override
+    public void readGenes(ByteBuffer buffer) {
+        buffer.asIntBuffer().get(genes);
+        buffer.position(buffer.position() + geneBytes());
+        evaluated = false;
+        recordRewrite();
+    }
+
+    @Override
+    public boolean addGenesTo(GeneMoments moments) {
+        double range = (double) maxValue - minValue;
+        for (int i = 0; i < genes.length; i++) {
+            moments.add(i, range > 0 ? (genes[i] - minValue) / range : 0);
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the genes. Use getGene/setGene, copyGenesTo or swapGenes to work without allocating.
+     */
     public int[] getGenes() {
         return genes.clone();
     }
 
+    public int getGene(int index) {
+        return genes[index];
+    }
+
+    public void setGene(int index, int value) {
+        if (genes[index] != value) {
+            recordChange(index, genes[index]);
+        }
+        genes[index] = value;
+        evaluated = false;
+    }
+
+    /**
+     * Returns a read-only view of the genes that shares storage with this chromosome.
+     */
+    public IntBuffer geneView() {
+        return IntBuffer.wrap(genes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Exchanges genes [from, to) with the other chromosome.
+     */
+    public void swapRange(IntegerChromosome other, int from, int to) {
+        for (int i = from; i < to; i++) {
+            swapGene(other, i);
+        }
+        evaluated = false;
+        other.evaluated = false;
+    }
+
+    /**
+     * Exchanges gene from + j with the other chromosome for every bit j set in mask; bits that would
+     * address genes past the last one are ignored.
+     */
+    public void swapMasked(IntegerChromosome other, int from, long mask) {
+        while (mask != 0) {
+            int i = from + Long.numberOfTrailingZeros(mask);
+            if (i >= genes.length) {
+                break;
+            }
+            swapGene(other, i);
+            mask &= mask - 1;
+        }
+        evaluated = false;
+        other.evaluated = false;
+    }
+
+    private void swapGene(IntegerChromosome other, int i) {
+        int[] otherGenes = other.genes;
+        if (genes[i] != otherGenes[i]) {
+            recordChange(i, genes[i]);
+            other.recordChange(i, otherGenes[i]);
+        }
+        int temp = genes[i];
+        genes[i] = otherGenes[i];
+        otherGenes[i] = temp;
+    }
+
+    public void copyGenesTo(int[] target, int offset) {
+        System.arraycopy(genes, 0, target, offset, genes.length);
+    }
+
+    public void setGenes(int[] source, int offset) {
+        System.arraycopy(source, offset, genes, 0, genes.length);
+        evaluated = false;
+        recordRewrite();
+    }
+
     public int getMinValue() {
         return minValue;
     }
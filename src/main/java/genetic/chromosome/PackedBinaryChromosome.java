@@ -0,0 +1,276 @@
+package genetic.chromosome;
+
+import genetic.random.Rng;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary chromosome that stores 64 genes per long word.
+ * Gene i lives in bit (i & 63) of word (i >>> 6); bits past the chromosome length are always zero.
+ */
+public class PackedBinaryChromosome extends Chromosome {
+    private final long[] words;
+    private final int length;
+
+    public PackedBinaryChromosome(int length) {
+        this.length = length;
+        this.words = new long[(length + 63) >>> 6];
+    }
+
+    @Override
+    public void initialize() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextLong();
+        }
+        clearTail();
+    }
+
+    @Override
+    public List<Chromosome> crossover(Chromosome other) {
+        Rng random = Rng.current();
+        PackedBinaryChromosome offspring1 = (PackedBinaryChromosome) this.copy();
+        PackedBinaryChromosome offspring2 = (PackedBinaryChromosome) other.copy();
+        offspring1.swapRange(offspring2, random.nextInt(length), length);
+
+        List<Chromosome> offspring = new ArrayList<>();
+        offspring.add(offspring1);
+        offspring.add(offspring2);
+        return offspring;
+    }
+
+    @Override
+    public void mutate() {
+        Rng random = Rng.current();
+        evaluated = false;
+        recordRewrite();
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < 0.05) {
+                words[i >>> 6] ^= 1L << i;
+            }
+        }
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public Chromosome copy() {
+        PackedBinaryChromosome copy = new PackedBinaryChromosome(length);
+        System.arraycopy(this.words, 0, copy.words, 0, words.length);
+        copy.fitness = this.fitness;
+        copy.evaluated = this.evaluated;
+        copyChangesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public void copyFrom(Chromosome source) {
+        PackedBinaryChromosome other = (PackedBinaryChromosome) source;
+        System.arraycopy(other.words, 0, words, 0, words.length);
+        this.fitness = other.fitness;
+        this.evaluated = other.evaluated;
+        copyChangesFrom(other);
+    }
+
+    @Override
+    public void swapGenes(Chromosome other, int from, int to) {
+        swapRange((PackedBinaryChromosome) other, from, to);
+    }
+
+    @Override
+    public int genotypeHash() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public boolean sameGenotype(Chromosome other) {
+        return other instanceof PackedBinaryChromosome
+                && length == ((PackedBinaryChromosome) other).length
+                && Arrays.equals(words, ((PackedBinaryChromosome) other).words);
+    }
+
+    @Override
+    public int geneBytes() {
+        return words.length * Long.BYTES;
+    }
+
+    @Override
+    public void writeGenes(ByteBuffer buffer) {
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+    }
+
+    @Override
+    public void readGenes(ByteBuffer buffer) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = buffer.getLong();
+        }
+        clearTail();
+        evaluated = false;
+        recordRewrite();
+    }
+
+    // Counted a word at a time; bits past the last gene are always clear
+    @Override
+    public boolean addGenesTo(GeneMoments moments) {
+        moments.addWords(words);
+        return true;
+    }
+
+    public boolean getGene(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void setGene(int index, boolean value) {
+        evaluated = false;
+        if (getGene(index) != value) {
+            recordChange(index, value ? 0 : 1);
+        }
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    public int getWordCount() {
+        return words.length;
+    }
+
+    public long getWord(int wordIndex) {
+        return words[wordIndex];
+    }
+
+    /**
+     * Flips every gene of the given word whose bit is set in mask.
+     */
+    public void flipBits(int wordIndex, long mask) {
+        evaluated = false;
+        long old = words[wordIndex];
+        words[wordIndex] ^= mask;
+        if (wordIndex == words.length - 1) {
+            clearTail();
+        }
+        recordWord(wordIndex, old, old ^ words[wordIndex]);
+    }
+
+    /**
+     * Exchanges the genes in [from, to) with the other chromosome using word masks.
+     */
+    public void swapRange(PackedBinaryChromosome other, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (firstWord == lastWord) {
+            swapBits(other, firstWord, firstMask & lastMask);
+            return;
+        }
+        swapBits(other, firstWord, firstMask);
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            long tmp = words[w];
+            if (changes != null || other.changes != null) {
+                recordWord(w, tmp, tmp ^ other.words[w]);
+                other.recordWord(w, other.words[w], tmp ^ other.words[w]);
+            }
+            words[w] = other.words[w];
+            other.words[w] = tmp;
+        }
+        swapBits(other, lastWord, lastMask);
+    }
+
+    /**
+     * Exchanges the genes of the given word whose bit is set in mask with the other chromosome.
+     */
+    public void swapBits(PackedBinaryChromosome other, int wordIndex, long mask) {
+        evaluated = false;
+        other.evaluated = false;
+        long diff = (words[wordIndex] ^ other.words[wordIndex]) & mask;
+        recordWord(wordIndex, words[wordIndex], diff);
+        other.recordWord(wordIndex, other.words[wordIndex], diff);
+        words[wordIndex] ^= diff;
+        other.words[wordIndex] ^= diff;
+    }
+
+    /**
+     * Returns count (at most 64) genes starting at from; gene from ends up in the least significant bit.
+     * Positions past the last gene read as zero.
+     */
+    public long getBits(int from, int count) {
+        count = Math.min(count, length - from);
+        if (count <= 0) {
+            return 0;
+        }
+        int w = from >>> 6;
+        int offset = from & 63;
+        long bits = words[w] >>> offset;
+        if (offset + count > 64) {
+            bits |= words[w + 1] << (64 - offset);
+        }
+        return count == 64 ? bits : bits & ((1L << count) - 1);
+    }
+
+    /**
+     * Writes the count (at most 64) low bits of value into the genes starting at from. Bits that would
+     * land past the last gene are dropped, so the unused tail of the last word stays zero.
+     */
+    public void setBits(int from, int count, long value) {
+        count = Math.min(count, length - from);
+        if (count <= 0) {
+            return;
+        }
+        evaluated = false;
+        long mask = count == 64 ? -1L : (1L << count) - 1;
+        value &= mask;
+        int w = from >>> 6;
+        int offset = from & 63;
+        long old = words[w];
+        words[w] = (old & ~(mask << offset)) | (value << offset);
+        recordWord(w, old, old ^ words[w]);
+        if (offset + count > 64) {
+            int spill = 64 - offset;
+            old = words[w + 1];
+            words[w + 1] = (old & ~(mask >>> spill)) | (value >>> spill);
+            recordWord(w + 1, old, old ^ words[w + 1]);
+        }
+    }
+
+    public int bitCount() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // Records the genes of a word whose bit is set in diff, given the word's value before the change
+    private void recordWord(int wordIndex, long old, long diff) {
+        if (changes == null) {
+            return;
+        }
+        int base = wordIndex << 6;
+        while (diff != 0) {
+            int bit = Long.numberOfTrailingZeros(diff);
+            recordChange(base + bit, (old >>> bit) & 1);
+            diff &= diff - 1;
+        }
+    }
+
+    private void clearTail() {
+        int tail = length & 63;
+        if (tail != 0) {
+            words[words.length - 1] &= (1L << tail) - 1;
+        }
+    }
+}
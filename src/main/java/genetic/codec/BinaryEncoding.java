@@ -0,0 +1,57 @@
+package genetic.codec;
+
+/**
+ * Maps the integer a binary variable stands for to the bit pattern stored in the chromosome and back.
+ * Both sides are read most significant bit first and occupy the low bits bits of a long.
+ */
+public interface BinaryEncoding {
+    /**
+     * Plain binary: the stored bits are the value.
+     */
+    BinaryEncoding PLAIN = new BinaryEncoding() {
+        @Override
+        public long toCode(long value, int bits) {
+            return value;
+        }
+
+        @Override
+        public long toValue(long code, int bits) {
+            return code;
+        }
+
+        @Override
+        public String toString() {
+            return "PLAIN";
+        }
+    };
+
+    /**
+     * Reflected Gray code: neighbouring values differ in exactly one bit, so a step to an adjacent value
+     * is always a single bit flip, with no Hamming cliffs like 0111 to 1000. The converse does not hold:
+     * flipping the top bit of an n-bit code maps value v to 2^n - 1 - v.
+     */
+    BinaryEncoding GRAY = new BinaryEncoding() {
+        @Override
+        public long toCode(long value, int bits) {
+            return value ^ (value >>> 1);
+        }
+
+        // Prefix XOR from the most significant bit, in log2(bits) shift steps over the whole word
+        @Override
+        public long toValue(long code, int bits) {
+            for (int shift = 1; shift < bits; shift <<= 1) {
+                code ^= code >>> shift;
+            }
+            return code;
+        }
+
+        @Override
+        public String toString() {
+            return "GRAY";
+        }
+    };
+
+    long toCode(long value, int bits);
+
+    long toValue(long code, int bits);
+}
@@ -0,0 +1,148 @@
+package genetic.codec;
+
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declares how the real variables of a problem are laid out in a binary chromosome: each variable takes
+ * the next run of bits, has its own [min, max] range, width and encoding. The width is either given or
+ * derived from a precision target. A problem declares its layout once and takes both its prototype and its
+ * ChromosomeCodec from it, so the chromosome length and the decoder always agree.
+ */
+public class BinaryLayout {
+    private static final int MAX_BITS = 62;
+
+    private final BinaryEncoding defaultEncoding;
+    private final List<Variable> variables = new ArrayList<>();
+    private int length;
+
+    /**
+     * Creates an empty layout whose variables use plain binary unless stated otherwise.
+     */
+    public BinaryLayout() {
+        this(BinaryEncoding.PLAIN);
+    }
+
+    /**
+     * Creates an empty layout whose variables use the given encoding unless stated otherwise.
+     */
+    public BinaryLayout(BinaryEncoding defaultEncoding) {
+        this.defaultEncoding = defaultEncoding;
+    }
+
+    /**
+     * Creates a layout of count variables of the same width and range.
+     */
+    public static BinaryLayout uniform(int count, int bits, double minValue, double maxValue, BinaryEncoding encoding) {
+        BinaryLayout layout = new BinaryLayout(encoding);
+        for (int i = 0; i < count; i++) {
+            layout.addVariable(minValue, maxValue, bits);
+        }
+        return layout;
+    }
+
+    public void addVariable(double minValue, double maxValue, int bits) {
+        addVariable(minValue, maxValue, bits, defaultEncoding);
+    }
+
+    public void addVariable(double minValue, double maxValue, int bits, BinaryEncoding encoding) {
+        if (bits < 1 || bits > MAX_BITS) {
+            throw new IllegalArgumentException("A variable needs between 1 and " + MAX_BITS + " bits, not " + bits);
+        }
+        if (!(maxValue >= minValue)) {
+            throw new IllegalArgumentException("Invalid range [" + minValue + ", " + maxValue + "]");
+        }
+        variables.add(new Variable(length, bits, minValue, maxValue, encoding));
+        length += bits;
+    }
+
+    /**
+     * Adds a variable with the fewest bits that resolve [minValue, maxValue] in steps of at most precision.
+     */
+    public void addVariableWithPrecision(double minValue, double maxValue, double precision) {
+        addVariableWithPrecision(minValue, maxValue, precision, defaultEncoding);
+    }
+
+    public void addVariableWithPrecision(double minValue, double maxValue, double precision, BinaryEncoding encoding) {
+        if (!(precision > 0)) {
+            throw new IllegalArgumentException("Precision must be positive");
+        }
+        int bits = 1;
+        while (bits < MAX_BITS && (maxValue - minValue) / ((1L << bits) - 1) > precision) {
+            bits++;
+        }
+        addVariable(minValue, maxValue, bits, encoding);
+    }
+
+    public int getVariableCount() {
+        return variables.size();
+    }
+
+    /**
+     * Returns the total number of bits, which is the length of chromosomes with this layout.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public int getOffset(int variable) {
+        return variables.get(variable).offset;
+    }
+
+    public int getBits(int variable) {
+        return variables.get(variable).bits;
+    }
+
+    public double getMinValue(int variable) {
+        return variables.get(variable).minValue;
+    }
+
+    public double getMaxValue(int variable) {
+        return variables.get(variable).maxValue;
+    }
+
+    public BinaryEncoding getEncoding(int variable) {
+        return variables.get(variable).encoding;
+    }
+
+    /**
+     * Returns the distance between neighbouring decoded values of a variable.
+     */
+    public double getResolution(int variable) {
+        Variable v = variables.get(variable);
+        return (v.maxValue - v.minValue) / ((1L << v.bits) - 1);
+    }
+
+    public BinaryChromosome newBinaryChromosome() {
+        return new BinaryChromosome(length);
+    }
+
+    public PackedBinaryChromosome newPackedChromosome() {
+        return new PackedBinaryChromosome(length);
+    }
+
+    /**
+     * Returns a codec for the variables declared so far.
+     */
+    public ChromosomeCodec compile() {
+        return new ChromosomeCodec(this);
+    }
+
+    private static class Variable {
+        final int offset;
+        final int bits;
+        final double minValue;
+        final double maxValue;
+        final BinaryEncoding encoding;
+
+        Variable(int offset, int bits, double minValue, double maxValue, BinaryEncoding encoding) {
+            this.offset = offset;
+            this.bits = bits;
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            this.encoding = encoding;
+        }
+    }
+}
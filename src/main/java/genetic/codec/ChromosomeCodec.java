@@ -0,0 +1,190 @@
+package genetic.codec;
+
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts between chromosomes and real values for one BinaryLayout, fixed when the codec is created.
+ * Offsets, ranges and lookup tables are computed up front, and decode writes into a buffer supplied by
+ * the caller, so neither direction allocates.
+ *
+ * For binary chromosomes each variable is read most significant bit first. Variables up to TABLE_BITS
+ * wide decode through a table indexed by the stored bits, which also absorbs the encoding; tables are
+ * shared between variables of the same width and encoding. Float and integer chromosomes hold one gene
+ * per variable and are not scaled. Codecs are immutable and can be shared between threads.
+ */
+public final class ChromosomeCodec {
+    public static final int TABLE_BITS = 12;
+
+    private final int numValues;
+    private final int length;
+    private final int[] offsets;
+    private final int[] widths;
+    private final long[] maxRaws;
+    private final double[] minValues;
+    private final double[] spans;
+    private final BinaryEncoding[] encodings;
+    private final double[][] unitTables;
+
+    /**
+     * Creates a plain binary codec for numValues values of bitsPerValue bits, each scaled to [0, 1].
+     */
+    public ChromosomeCodec(int numValues, int bitsPerValue) {
+        this(numValues, bitsPerValue, false, null, null);
+    }
+
+    /**
+     * Creates a codec for numValues values of bitsPerValue bits, scaling value i to
+     * [minValues[i], maxValues[i]]; null ranges mean [0, 1].
+     */
+    public ChromosomeCodec(int numValues, int bitsPerValue, boolean gray, double[] minValues, double[] maxValues) {
+        this(layout(numValues, bitsPerValue, gray ? BinaryEncoding.GRAY : BinaryEncoding.PLAIN, minValues, maxValues));
+    }
+
+    public ChromosomeCodec(BinaryLayout layout) {
+        numValues = layout.getVariableCount();
+        length = layout.getLength();
+        offsets = new int[numValues];
+        widths = new int[numValues];
+        maxRaws = new long[numValues];
+        minValues = new double[numValues];
+        spans = new double[numValues];
+        encodings = new BinaryEncoding[numValues];
+        unitTables = new double[numValues][];
+        Map<BinaryEncoding, double[][]> tables = new HashMap<>();
+        for (int i = 0; i < numValues; i++) {
+            int bits = layout.getBits(i);
+            offsets[i] = layout.getOffset(i);
+            widths[i] = bits;
+            maxRaws[i] = (1L << bits) - 1;
+            minValues[i] = layout.getMinValue(i);
+            spans[i] = layout.getMaxValue(i) - layout.getMinValue(i);
+            encodings[i] = layout.getEncoding(i);
+            if (bits <= TABLE_BITS) {
+                double[][] byWidth = tables.computeIfAbsent(encodings[i], e -> new double[TABLE_BITS + 1][]);
+                if (byWidth[bits] == null) {
+                    byWidth[bits] = unitTable(encodings[i], bits);
+                }
+                unitTables[i] = byWidth[bits];
+            }
+        }
+    }
+
+    private static BinaryLayout layout(int numValues, int bitsPerValue, BinaryEncoding encoding,
+                                       double[] minValues, double[] maxValues) {
+        if ((minValues == null) != (maxValues == null)
+                || minValues != null && (minValues.length != numValues || maxValues.length != numValues)) {
+            throw new IllegalArgumentException("Ranges must be given for all " + numValues + " values or none");
+        }
+        BinaryLayout layout = new BinaryLayout(encoding);
+        for (int i = 0; i < numValues; i++) {
+            layout.addVariable(minValues != null ? minValues[i] : 0.0, maxValues != null ? maxValues[i] : 1.0, bitsPerValue);
+        }
+        return layout;
+    }
+
+    private static double[] unitTable(BinaryEncoding encoding, int bits) {
+        double maxRaw = (1L << bits) - 1;
+        double[] table = new double[1 << bits];
+        for (int code = 0; code < table.length; code++) {
+            table[code] = encoding.toValue(code, bits) / maxRaw;
+        }
+        return table;
+    }
+
+    public int getNumValues() {
+        return numValues;
+    }
+
+    /**
+     * Returns the number of bits a binary chromosome needs for this layout.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Writes the getNumValues values encoded by the chromosome into values.
+     */
+    public void decode(Chromosome chromosome, double[] values) {
+        if (chromosome instanceof PackedBinaryChromosome) {
+            PackedBinaryChromosome packed = (PackedBinaryChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                // Genes are stored least significant first, values are read most significant first
+                long code = Long.reverse(packed.getBits(offsets[i], widths[i])) >>> (64 - widths[i]);
+                values[i] = scale(i, code);
+            }
+        } else if (chromosome instanceof BinaryChromosome) {
+            BinaryChromosome binary = (BinaryChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                long code = 0;
+                for (int bit = offsets[i], end = bit + widths[i]; bit < end; bit++) {
+                    code = (code << 1) | (binary.getGene(bit) ? 1 : 0);
+                }
+                values[i] = scale(i, code);
+            }
+        } else if (chromosome instanceof FloatChromosome) {
+            FloatChromosome floats = (FloatChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                values[i] = floats.getGene(i);
+            }
+        } else if (chromosome instanceof IntegerChromosome) {
+            IntegerChromosome ints = (IntegerChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                values[i] = ints.getGene(i);
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot decode " + chromosome.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Stores the getNumValues entries of values in the chromosome. Binary values outside their range
+     * are clamped to it; integer values are rounded.
+     */
+    public void encode(Chromosome chromosome, double[] values) {
+        if (chromosome instanceof PackedBinaryChromosome) {
+            PackedBinaryChromosome packed = (PackedBinaryChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                packed.setBits(offsets[i], widths[i], Long.reverse(quantize(i, values[i])) >>> (64 - widths[i]));
+            }
+        } else if (chromosome instanceof BinaryChromosome) {
+            BinaryChromosome binary = (BinaryChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                long code = quantize(i, values[i]);
+                for (int j = widths[i] - 1, bit = offsets[i]; j >= 0; j--, bit++) {
+                    binary.setGene(bit, ((code >>> j) & 1) != 0);
+                }
+            }
+        } else if (chromosome instanceof FloatChromosome) {
+            FloatChromosome floats = (FloatChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                floats.setGene(i, values[i]);
+            }
+        } else if (chromosome instanceof IntegerChromosome) {
+            IntegerChromosome ints = (IntegerChromosome) chromosome;
+            for (int i = 0; i < numValues; i++) {
+                ints.setGene(i, (int) Math.round(values[i]));
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot encode " + chromosome.getClass().getSimpleName());
+        }
+    }
+
+    private double scale(int i, long code) {
+        double[] table = unitTables[i];
+        double unit = table != null ? table[(int) code] : encodings[i].toValue(code, widths[i]) / (double) maxRaws[i];
+        return minValues[i] + spans[i] * unit;
+    }
+
+    private long quantize(int i, double value) {
+        long raw = spans[i] > 0 ? Math.round((value - minValues[i]) / spans[i] * maxRaws[i]) : 0;
+        raw = Math.max(0, Math.min(maxRaws[i], raw));
+        return encodings[i].toCode(raw, widths[i]);
+    }
+}
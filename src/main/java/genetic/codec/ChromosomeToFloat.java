@@ -4,39 +4,58 @@ import genetic.chromosome.Chromosome;
 import genetic.chromosome.FloatChromosome;
 import genetic.chromosome.IntegerChromosome;
 import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
 
+/**
+ * One-off conversions that allocate their result. Code that converts every individual should create a
+ * ChromosomeCodec for its layout once and decode into a reused buffer instead.
+ */
 public class ChromosomeToFloat {
+    // Widest packed value whose scale (2^bits - 1) and rounded encodings stay exact in a long
+    private static final int MAX_PACKED_BITS = 62;
 
     /**
      * Decodes a chromosome to an array of double values.
      * For FloatChromosome: returns the genes directly.
      * For IntegerChromosome: converts int genes to double.
      * For BinaryChromosome: interprets bits as unsigned integers and scales to 0-1 range.
+     * For PackedBinaryChromosome: same as BinaryChromosome, extracting each value with word-level shifts.
      * Assumes binary genes are grouped into bytes (8 bits per value).
      */
     public static double[] decode(Chromosome chromosome, int numValues, int bitsPerValue) {
         if (chromosome instanceof FloatChromosome) {
             return ((FloatChromosome) chromosome).getGenes();
         } else if (chromosome instanceof IntegerChromosome) {
-            int[] intGenes = ((IntegerChromosome) chromosome).getGenes();
-            double[] doubleGenes = new double[intGenes.length];
-            for (int i = 0; i < intGenes.length; i++) {
-                doubleGenes[i] = (double) intGenes[i];
+            IntegerChromosome intChrom = (IntegerChromosome) chromosome;
+            double[] doubleGenes = new double[intChrom.getLength()];
+            for (int i = 0; i < doubleGenes.length; i++) {
+                doubleGenes[i] = intChrom.getGene(i);
             }
             return doubleGenes;
         } else if (chromosome instanceof BinaryChromosome) {
-            boolean[] boolGenes = ((BinaryChromosome) chromosome).getGenes();
+            BinaryChromosome binChrom = (BinaryChromosome) chromosome;
             double[] doubleGenes = new double[numValues];
             for (int i = 0; i < numValues; i++) {
                 int value = 0;
                 for (int j = 0; j < bitsPerValue; j++) {
-                    if (boolGenes[i * bitsPerValue + j]) {
+                    if (binChrom.getGene(i * bitsPerValue + j)) {
                         value |= (1 << (bitsPerValue - 1 - j));
                     }
                 }
                 doubleGenes[i] = value / (Math.pow(2, bitsPerValue) - 1); // Scale to 0-1
             }
             return doubleGenes;
+        } else if (chromosome instanceof PackedBinaryChromosome) {
+            PackedBinaryChromosome packed = (PackedBinaryChromosome) chromosome;
+            checkPackedBits(bitsPerValue);
+            double scale = 1.0 / ((1L << bitsPerValue) - 1);
+            double[] doubleGenes = new double[numValues];
+            for (int i = 0; i < numValues; i++) {
+                // Genes are stored least significant first, values are read most significant first
+                long raw = packed.getBits(i * bitsPerValue, bitsPerValue);
+                doubleGenes[i] = (Long.reverse(raw) >>> (64 - bitsPerValue)) * scale;
+            }
+            return doubleGenes;
         }
         return new double[0];
     }
@@ -46,28 +65,43 @@ public class ChromosomeToFloat {
      * For FloatChromosome: sets the genes directly.
      * For IntegerChromosome: rounds doubles to ints.
      * For BinaryChromosome: scales doubles to 0-1 and converts to bits.
+     * For PackedBinaryChromosome: same as BinaryChromosome, writing each value with word-level masks.
      * Assumes binary genes are grouped into bytes (8 bits per value).
      */
     public static void encode(Chromosome chromosome, double[] values, int bitsPerValue) {
         if (chromosome instanceof FloatChromosome) {
             FloatChromosome floatChrom = (FloatChromosome) chromosome;
-            double[] genes = floatChrom.getGenes();
-            System.arraycopy(values, 0, genes, 0, values.length);
+            for (int i = 0; i < values.length; i++) {
+                floatChrom.setGene(i, values[i]);
+            }
         } else if (chromosome instanceof IntegerChromosome) {
             IntegerChromosome intChrom = (IntegerChromosome) chromosome;
-            int[] genes = intChrom.getGenes();
             for (int i = 0; i < values.length; i++) {
-                genes[i] = (int) Math.round(values[i]);
+                intChrom.setGene(i, (int) Math.round(values[i]));
             }
         } else if (chromosome instanceof BinaryChromosome) {
             BinaryChromosome binChrom = (BinaryChromosome) chromosome;
-            boolean[] genes = binChrom.getGenes();
             for (int i = 0; i < values.length; i++) {
                 int value = (int) Math.round(values[i] * (Math.pow(2, bitsPerValue) - 1));
                 for (int j = 0; j < bitsPerValue; j++) {
-                    genes[i * bitsPerValue + j] = (value & (1 << (bitsPerValue - 1 - j))) != 0;
+                    binChrom.setGene(i * bitsPerValue + j, (value & (1 << (bitsPerValue - 1 - j))) != 0);
                 }
             }
+        } else if (chromosome instanceof PackedBinaryChromosome) {
+            PackedBinaryChromosome packed = (PackedBinaryChromosome) chromosome;
+            checkPackedBits(bitsPerValue);
+            long maxValue = (1L << bitsPerValue) - 1;
+            for (int i = 0; i < values.length; i++) {
+                long value = Math.round(values[i] * maxValue);
+                packed.setBits(i * bitsPerValue, bitsPerValue, Long.reverse(value) >>> (64 - bitsPerValue));
+            }
+        }
+    }
+
+    private static void checkPackedBits(int bitsPerValue) {
+        if (bitsPerValue < 1 || bitsPerValue > MAX_PACKED_BITS) {
+            throw new IllegalArgumentException("Packed values need between 1 and " + MAX_PACKED_BITS
+                    + " bits, not " + bitsPerValue);
         }
     }
 }
@@ -3,6 +3,50 @@ package genetic.crossover;
 import genetic.chromosome.Chromosome;
 import java.util.List;
 
-public interface CrossoverOperator {
-    List<Chromosome> crossover(Chromosome parent1, Chromosome parent2);
+/**
+ * Recombines two chromosomes of the encoding C.
+ * Operators that only rely on the Chromosome API use C = Chromosome and accept every encoding.
+ */
+public interface CrossoverOperator<C extends Chromosome> {
+    List<Chromosome> crossover(C parent1, C parent2);
+
+    /**
+     * Recombines two children in place, without allocating offspring.
+     * The default delegates to crossover and copies the results back.
+     */
+    default void crossoverInPlace(C child1, C child2) {
+        List<Chromosome> offspring = crossover(child1, child2);
+        child1.copyFrom(offspring.get(0));
+        child2.copyFrom(offspring.get(1));
+    }
+
+    /**
+     * Returns the chromosome class this operator works on.
+     */
+    Class<C> getChromosomeType();
+
+    /**
+     * Returns the operator to use on chromosomes like the prototype. Operators that accept several
+     * encodings return an implementation written for the prototype's; the default returns this operator.
+     */
+    default CrossoverOperator<?> specializeFor(Chromosome prototype) {
+        return this;
+    }
+
+    /**
+     * Checks once, at configuration time, that the operator accepts chromosomes like the prototype
+     * and returns it, specialized for the prototype's encoding, typed for use on that population.
+     *
+     * @throws IllegalArgumentException if the operator targets a different encoding
+     */
+    @SuppressWarnings("unchecked")
+    static CrossoverOperator<Chromosome> forPrototype(CrossoverOperator<?> configured, Chromosome prototype) {
+        CrossoverOperator<?> operator = configured.specializeFor(prototype);
+        if (!operator.getChromosomeType().isInstance(prototype)) {
+            throw new IllegalArgumentException(configured.getClass().getSimpleName() + " works on "
+                    + operator.getChromosomeType().getSimpleName() + ", not on "
+                    + prototype.getClass().getSimpleName());
+        }
+        return (CrossoverOperator<Chromosome>) operator;
+    }
 }
@@ -0,0 +1,37 @@
+package genetic.crossover;
+
+import genetic.chromosome.Chromosome;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base of the encoding-specific operators: crossover copies the parents and recombines the copies in place.
+ */
+abstract class InPlaceCrossover<C extends Chromosome> implements CrossoverOperator<C> {
+    private final Class<C> type;
+
+    InPlaceCrossover(Class<C> type) {
+        this.type = type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Chromosome> crossover(C parent1, C parent2) {
+        C offspring1 = (C) parent1.copy();
+        C offspring2 = (C) parent2.copy();
+        crossoverInPlace(offspring1, offspring2);
+
+        List<Chromosome> offspring = new ArrayList<>();
+        offspring.add(offspring1);
+        offspring.add(offspring2);
+        return offspring;
+    }
+
+    @Override
+    public abstract void crossoverInPlace(C child1, C child2);
+
+    @Override
+    public Class<C> getChromosomeType() {
+        return type;
+    }
+}
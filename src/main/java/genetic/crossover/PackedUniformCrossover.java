@@ -0,0 +1,38 @@
+package genetic.crossover;
+
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.random.Rng;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform crossover for PackedBinaryChromosome: swaps 64 genes at a time under a random mask.
+ */
+public class PackedUniformCrossover implements CrossoverOperator<PackedBinaryChromosome> {
+
+    @Override
+    public List<Chromosome> crossover(PackedBinaryChromosome parent1, PackedBinaryChromosome parent2) {
+        PackedBinaryChromosome offspring1 = (PackedBinaryChromosome) parent1.copy();
+        PackedBinaryChromosome offspring2 = (PackedBinaryChromosome) parent2.copy();
+        crossoverInPlace(offspring1, offspring2);
+
+        List<Chromosome> offspring = new ArrayList<>();
+        offspring.add(offspring1);
+        offspring.add(offspring2);
+        return offspring;
+    }
+
+    @Override
+    public void crossoverInPlace(PackedBinaryChromosome child1, PackedBinaryChromosome child2) {
+        Rng random = Rng.current();
+        for (int w = 0; w < child1.getWordCount(); w++) {
+            child1.swapBits(child2, w, random.nextLong());
+        }
+    }
+
+    @Override
+    public Class<PackedBinaryChromosome> getChromosomeType() {
+        return PackedBinaryChromosome.class;
+    }
+}
@@ -1,71 +1,117 @@
 package genetic.crossover;
 
+import genetic.chromosome.BinaryChromosome;
 import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.random.Rng;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
-public class TwoPointCrossover implements CrossoverOperator {
-    private Random random = new Random();
+/**
+ * Swaps the genes between two random points. Engines use the version specialized for their encoding, which
+ * swaps through that chromosome type's own swapRange; other chromosome types go through swapGenes.
+ */
+public class TwoPointCrossover implements CrossoverOperator<Chromosome> {
 
     @Override
     public List<Chromosome> crossover(Chromosome parent1, Chromosome parent2) {
-        int length = parent1.getLength();
-        int point1 = random.nextInt(length);
-        int point2 = random.nextInt(length - point1) + point1;
         Chromosome offspring1 = parent1.copy();
         Chromosome offspring2 = parent2.copy();
-
-        if (parent1 instanceof genetic.chromosome.BinaryChromosome && parent2 instanceof genetic.chromosome.BinaryChromosome) {
-            genetic.chromosome.BinaryChromosome p1 = (genetic.chromosome.BinaryChromosome) parent1;
-            genetic.chromosome.BinaryChromosome p2 = (genetic.chromosome.BinaryChromosome) parent2;
-            genetic.chromosome.BinaryChromosome o1 = (genetic.chromosome.BinaryChromosome) offspring1;
-            genetic.chromosome.BinaryChromosome o2 = (genetic.chromosome.BinaryChromosome) offspring2;
-
-            boolean[] g1 = p1.getGenes();
-            boolean[] g2 = p2.getGenes();
-            boolean[] og1 = o1.getGenes();
-            boolean[] og2 = o2.getGenes();
-
-            for (int i = point1; i < point2; i++) {
-                og1[i] = g2[i];
-                og2[i] = g1[i];
-            }
-        } else if (parent1 instanceof genetic.chromosome.IntegerChromosome && parent2 instanceof genetic.chromosome.IntegerChromosome) {
-            genetic.chromosome.IntegerChromosome p1 = (genetic.chromosome.IntegerChromosome) parent1;
-            genetic.chromosome.IntegerChromosome p2 = (genetic.chromosome.IntegerChromosome) parent2;
-            genetic.chromosome.IntegerChromosome o1 = (genetic.chromosome.IntegerChromosome) offspring1;
-            genetic.chromosome.IntegerChromosome o2 = (genetic.chromosome.IntegerChromosome) offspring2;
-
-            int[] g1 = p1.getGenes();
-            int[] g2 = p2.getGenes();
-            int[] og1 = o1.getGenes();
-            int[] og2 = o2.getGenes();
-
-            for (int i = point1; i < point2; i++) {
-                og1[i] = g2[i];
-                og2[i] = g1[i];
-            }
-        } else if (parent1 instanceof genetic.chromosome.FloatChromosome && parent2 instanceof genetic.chromosome.FloatChromosome) {
-            genetic.chromosome.FloatChromosome p1 = (genetic.chromosome.FloatChromosome) parent1;
-            genetic.chromosome.FloatChromosome p2 = (genetic.chromosome.FloatChromosome) parent2;
-            genetic.chromosome.FloatChromosome o1 = (genetic.chromosome.FloatChromosome) offspring1;
-            genetic.chromosome.FloatChromosome o2 = (genetic.chromosome.FloatChromosome) offspring2;
-
-            double[] g1 = p1.getGenes();
-            double[] g2 = p2.getGenes();
-            double[] og1 = o1.getGenes();
-            double[] og2 = o2.getGenes();
-
-            for (int i = point1; i < point2; i++) {
-                og1[i] = g2[i];
-                og2[i] = g1[i];
-            }
-        }
+        crossoverInPlace(offspring1, offspring2);
 
         List<Chromosome> offspring = new ArrayList<>();
         offspring.add(offspring1);
         offspring.add(offspring2);
         return offspring;
     }
+
+    @Override
+    public void crossoverInPlace(Chromosome child1, Chromosome child2) {
+        Rng random = Rng.current();
+        int length = child1.getLength();
+        int point1 = random.nextInt(length);
+        child1.swapGenes(child2, point1, secondPoint(random, length, point1));
+    }
+
+    @Override
+    public Class<Chromosome> getChromosomeType() {
+        return Chromosome.class;
+    }
+
+    @Override
+    public CrossoverOperator<?> specializeFor(Chromosome prototype) {
+        if (prototype instanceof FloatChromosome) {
+            return new Floats();
+        } else if (prototype instanceof IntegerChromosome) {
+            return new Integers();
+        } else if (prototype instanceof BinaryChromosome) {
+            return new Binaries();
+        } else if (prototype instanceof PackedBinaryChromosome) {
+            return new PackedBinaries();
+        }
+        return this;
+    }
+
+    // Exclusive end in [point1, length], so the segment can reach the last gene
+    private static int secondPoint(Rng random, int length, int point1) {
+        return random.nextInt(length - point1 + 1) + point1;
+    }
+
+    private static final class Floats extends InPlaceCrossover<FloatChromosome> {
+        Floats() {
+            super(FloatChromosome.class);
+        }
+
+        @Override
+        public void crossoverInPlace(FloatChromosome child1, FloatChromosome child2) {
+            Rng random = Rng.current();
+            int length = child1.getLength();
+            int point1 = random.nextInt(length);
+            child1.swapRange(child2, point1, secondPoint(random, length, point1));
+        }
+    }
+
+    private static final class Integers extends InPlaceCrossover<IntegerChromosome> {
+        Integers() {
+            super(IntegerChromosome.class);
+        }
+
+        @Override
+        public void crossoverInPlace(IntegerChromosome child1, IntegerChromosome child2) {
+            Rng random = Rng.current();
+            int length = child1.getLength();
+            int point1 = random.nextInt(length);
+            child1.swapRange(child2, point1, secondPoint(random, length, point1));
+        }
+    }
+
+    private static final class Binaries extends InPlaceCrossover<BinaryChromosome> {
+        Binaries() {
+            super(BinaryChromosome.class);
+        }
+
+        @Override
+        public void crossoverInPlace(BinaryChromosome child1, BinaryChromosome child2) {
+            Rng random = Rng.current();
+            int length = child1.getLength();
+            int point1 = random.nextInt(length);
+            child1.swapRange(child2, point1, secondPoint(random, length, point1));
+        }
+    }
+
+    private static final class PackedBinaries extends InPlaceCrossover<PackedBinaryChromosome> {
+        PackedBinaries() {
+            super(PackedBinaryChromosome.class);
+        }
+
+        @Override
+        public void crossoverInPlace(PackedBinaryChromosome child1, PackedBinaryChromosome child2) {
+            Rng random = Rng.current();
+            int length = child1.getLength();
+            int point1 = random.nextInt(length);
+            child1.swapRange(child2, point1, secondPoint(random, length, point1));
+        }
+    }
 }
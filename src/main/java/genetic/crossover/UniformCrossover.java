@@ -1,75 +1,111 @@
 package genetic.crossover;
 
+import genetic.chromosome.BinaryChromosome;
 import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.random.Rng;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
-public class UniformCrossover implements CrossoverOperator {
-    private Random random = new Random();
+/**
+ * Swaps each gene with probability 1/2. Engines use the version specialized for their encoding: packed
+ * binary chromosomes get PackedUniformCrossover, and the other built-in types swap the genes chosen by
+ * one random word per 64 genes through their own swapMasked. Other chromosome types swap each run of
+ * consecutive chosen genes in one swapGenes call.
+ */
+public class UniformCrossover implements CrossoverOperator<Chromosome> {
 
     @Override
     public List<Chromosome> crossover(Chromosome parent1, Chromosome parent2) {
-        int length = parent1.getLength();
         Chromosome offspring1 = parent1.copy();
         Chromosome offspring2 = parent2.copy();
+        crossoverInPlace(offspring1, offspring2);
 
-        if (parent1 instanceof genetic.chromosome.BinaryChromosome && parent2 instanceof genetic.chromosome.BinaryChromosome) {
-            genetic.chromosome.BinaryChromosome p1 = (genetic.chromosome.BinaryChromosome) parent1;
-            genetic.chromosome.BinaryChromosome p2 = (genetic.chromosome.BinaryChromosome) parent2;
-            genetic.chromosome.BinaryChromosome o1 = (genetic.chromosome.BinaryChromosome) offspring1;
-            genetic.chromosome.BinaryChromosome o2 = (genetic.chromosome.BinaryChromosome) offspring2;
-
-            boolean[] g1 = p1.getGenes();
-            boolean[] g2 = p2.getGenes();
-            boolean[] og1 = o1.getGenes();
-            boolean[] og2 = o2.getGenes();
+        List<Chromosome> offspring = new ArrayList<>();
+        offspring.add(offspring1);
+        offspring.add(offspring2);
+        return offspring;
+    }
 
-            for (int i = 0; i < length; i++) {
-                if (random.nextBoolean()) {
-                    og1[i] = g2[i];
-                    og2[i] = g1[i];
-                }
+    @Override
+    public void crossoverInPlace(Chromosome child1, Chromosome child2) {
+        Rng random = Rng.current();
+        int length = child1.getLength();
+        int runStart = -1;
+        for (int i = 0; i < length; i++) {
+            boolean swap = random.nextBoolean();
+            if (swap && runStart < 0) {
+                runStart = i;
+            } else if (!swap && runStart >= 0) {
+                child1.swapGenes(child2, runStart, i);
+                runStart = -1;
             }
-        } else if (parent1 instanceof genetic.chromosome.IntegerChromosome && parent2 instanceof genetic.chromosome.IntegerChromosome) {
-            genetic.chromosome.IntegerChromosome p1 = (genetic.chromosome.IntegerChromosome) parent1;
-            genetic.chromosome.IntegerChromosome p2 = (genetic.chromosome.IntegerChromosome) parent2;
-            genetic.chromosome.IntegerChromosome o1 = (genetic.chromosome.IntegerChromosome) offspring1;
-            genetic.chromosome.IntegerChromosome o2 = (genetic.chromosome.IntegerChromosome) offspring2;
+        }
+        if (runStart >= 0) {
+            child1.swapGenes(child2, runStart, length);
+        }
+    }
+
+    @Override
+    public Class<Chromosome> getChromosomeType() {
+        return Chromosome.class;
+    }
+
+    @Override
+    public CrossoverOperator<?> specializeFor(Chromosome prototype) {
+        if (prototype instanceof FloatChromosome) {
+            return new Floats();
+        } else if (prototype instanceof IntegerChromosome) {
+            return new Integers();
+        } else if (prototype instanceof BinaryChromosome) {
+            return new Binaries();
+        } else if (prototype instanceof PackedBinaryChromosome) {
+            return new PackedUniformCrossover();
+        }
+        return this;
+    }
 
-            int[] g1 = p1.getGenes();
-            int[] g2 = p2.getGenes();
-            int[] og1 = o1.getGenes();
-            int[] og2 = o2.getGenes();
+    private static final class Floats extends InPlaceCrossover<FloatChromosome> {
+        Floats() {
+            super(FloatChromosome.class);
+        }
 
-            for (int i = 0; i < length; i++) {
-                if (random.nextBoolean()) {
-                    og1[i] = g2[i];
-                    og2[i] = g1[i];
-                }
+        @Override
+        public void crossoverInPlace(FloatChromosome child1, FloatChromosome child2) {
+            Rng random = Rng.current();
+            for (int from = 0; from < child1.getLength(); from += 64) {
+                child1.swapMasked(child2, from, random.nextLong());
             }
-        } else if (parent1 instanceof genetic.chromosome.FloatChromosome && parent2 instanceof genetic.chromosome.FloatChromosome) {
-            genetic.chromosome.FloatChromosome p1 = (genetic.chromosome.FloatChromosome) parent1;
-            genetic.chromosome.FloatChromosome p2 = (genetic.chromosome.FloatChromosome) parent2;
-            genetic.chromosome.FloatChromosome o1 = (genetic.chromosome.FloatChromosome) offspring1;
-            genetic.chromosome.FloatChromosome o2 = (genetic.chromosome.FloatChromosome) offspring2;
+        }
+    }
 
-            double[] g1 = p1.getGenes();
-            double[] g2 = p2.getGenes();
-            double[] og1 = o1.getGenes();
-            double[] og2 = o2.getGenes();
+    private static final class Integers extends InPlaceCrossover<IntegerChromosome> {
+        Integers() {
+            super(IntegerChromosome.class);
+        }
 
-            for (int i = 0; i < length; i++) {
-                if (random.nextBoolean()) {
-                    og1[i] = g2[i];
-                    og2[i] = g1[i];
-                }
+        @Override
+        public void crossoverInPlace(IntegerChromosome child1, IntegerChromosome child2) {
+            Rng random = Rng.current();
+            for (int from = 0; from < child1.getLength(); from += 64) {
+                child1.swapMasked(child2, from, random.nextLong());
             }
         }
+    }
 
-        List<Chromosome> offspring = new ArrayList<>();
-        offspring.add(offspring1);
-        offspring.add(offspring2);
-        return offspring;
+    private static final class Binaries extends InPlaceCrossover<BinaryChromosome> {
+        Binaries() {
+            super(BinaryChromosome.class);
+        }
+
+        @Override
+        public void crossoverInPlace(BinaryChromosome child1, BinaryChromosome child2) {
+            Rng random = Rng.current();
+            for (int from = 0; from < child1.getLength(); from += 64) {
+                child1.swapMasked(child2, from, random.nextLong());
+            }
+        }
     }
 }
@@ -0,0 +1,124 @@
+package genetic.evaluation;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoizes a fitness function by genotype.
+ * Chromosomes whose genes have not changed since they were last scored are skipped entirely;
+ * the rest are looked up in a size-bounded LRU cache keyed by the content of their genes.
+ */
+public class CachingFitnessFunction implements FitnessFunction {
+    private final FitnessFunction delegate;
+    private final Map<GenotypeKey, Double> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    public CachingFitnessFunction(FitnessFunction delegate, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<GenotypeKey, Double>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GenotypeKey, Double> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public double evaluate(Chromosome chromosome) {
+        if (chromosome.isEvaluated()) {
+            skipped.incrementAndGet();
+            return chromosome.getFitness();
+        }
+
+        GenotypeKey probe = new GenotypeKey(chromosome);
+        Double cached;
+        synchronized (cache) {
+            cached = cache.get(probe);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        double fitness = delegate.evaluate(chromosome);
+        GenotypeKey key = new GenotypeKey(chromosome.copy(), probe.hash);
+        synchronized (cache) {
+            cache.put(key, fitness);
+        }
+        return fitness;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return delegate.isThreadSafe();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get() + skipped.get();
+        return total == 0 ? 0.0 : (double) (hits.get() + skipped.get()) / total;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        skipped.set(0);
+    }
+
+    private static final class GenotypeKey {
+        private final Chromosome chromosome;
+        private final int hash;
+
+        GenotypeKey(Chromosome chromosome) {
+            this(chromosome, chromosome.genotypeHash());
+        }
+
+        GenotypeKey(Chromosome chromosome, int hash) {
+            this.chromosome = chromosome;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GenotypeKey)) {
+                return false;
+            }
+            GenotypeKey other = (GenotypeKey) obj;
+            return hash == other.hash && chromosome.sameGenotype(other.chromosome);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package genetic.evaluation;
+
+import genetic.api.FitnessFunction;
+import genetic.api.IncrementalFitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.GeneChanges;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scores chromosomes that track their changes incrementally, falling back to a full evaluation when
+ * the changes are not tracked, overflowed, or the score has been updated incrementally maxDeltaDepth
+ * times in a row. The periodic full evaluation bounds floating-point drift.
+ */
+public class DeltaFitnessFunction implements FitnessFunction {
+    public static final int DEFAULT_MAX_DELTA_DEPTH = 32;
+
+    private final IncrementalFitnessFunction delegate;
+    private final int maxDeltaDepth;
+    private final AtomicLong deltas = new AtomicLong();
+    private final AtomicLong fullEvaluations = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+
+    public DeltaFitnessFunction(IncrementalFitnessFunction delegate) {
+        this(delegate, DEFAULT_MAX_DELTA_DEPTH);
+    }
+
+    public DeltaFitnessFunction(IncrementalFitnessFunction delegate, int maxDeltaDepth) {
+        if (maxDeltaDepth < 0) {
+            throw new IllegalArgumentException("maxDeltaDepth must not be negative");
+        }
+        this.delegate = delegate;
+        this.maxDeltaDepth = maxDeltaDepth;
+    }
+
+    @Override
+    public double evaluate(Chromosome chromosome) {
+        GeneChanges changes = chromosome.getChanges();
+        if (needsFullEvaluation(chromosome)) {
+            double fitness = delegate.evaluate(chromosome);
+            recordFullEvaluation(chromosome);
+            return fitness;
+        }
+        if (changes.size() == 0) {
+            unchanged.incrementAndGet();
+            return chromosome.getFitness();
+        }
+        deltas.incrementAndGet();
+        double fitness = delegate.evaluateDelta(chromosome, chromosome.getFitness(), changes);
+        changes.setDeltaDepth(changes.getDeltaDepth() + 1);
+        return fitness;
+    }
+
+    /**
+     * Returns true if evaluate would score the chromosome from scratch rather than from its changes.
+     */
+    public boolean needsFullEvaluation(Chromosome chromosome) {
+        GeneChanges changes = chromosome.getChanges();
+        return changes == null || changes.isOverflowed() || changes.getDeltaDepth() >= maxDeltaDepth;
+    }
+
+    /**
+     * Counts a full evaluation done elsewhere, for example in a batch, and restarts the chromosome's
+     * run of incremental updates.
+     */
+    public void recordFullEvaluation(Chromosome chromosome) {
+        fullEvaluations.incrementAndGet();
+        GeneChanges changes = chromosome.getChanges();
+        if (changes != null) {
+            changes.setDeltaDepth(0);
+        }
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return delegate.isThreadSafe();
+    }
+
+    public long getDeltaEvaluations() {
+        return deltas.get();
+    }
+
+    public long getFullEvaluations() {
+        return fullEvaluations.get();
+    }
+
+    public long getUnchanged() {
+        return unchanged.get();
+    }
+}
@@ -0,0 +1,78 @@
+package genetic.evaluation;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Base class for evaluators that split the population into fixed-size chunks
+ * and submit each chunk to an ExecutorService.
+ */
+public abstract class ExecutorEvaluator implements FitnessEvaluator, AutoCloseable {
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    protected ExecutorEvaluator(ExecutorService executor, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void evaluate(List<Chromosome> chromosomes, FitnessFunction fitnessFunction) {
+        int size = chromosomes.size();
+        if (!fitnessFunction.isThreadSafe() || size <= chunkSize) {
+            SequentialEvaluator.evaluateRange(chromosomes, fitnessFunction, 0, size);
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            futures.add(executor.submit(() -> SequentialEvaluator.evaluateRange(chromosomes, fitnessFunction, start, end)));
+        }
+        await(futures);
+    }
+
+    private static void await(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fitness evaluation interrupted", e);
+        } catch (ExecutionException e) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Fitness evaluation failed", cause);
+        }
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,31 @@
+package genetic.evaluation;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.soa.BatchFitnessFunction;
+import genetic.soa.GeneMatrix;
+import java.util.List;
+
+/**
+ * Strategy for scoring a list of chromosomes.
+ * Every chromosome receives exactly the fitness it would get from a sequential loop,
+ * regardless of how the work is scheduled.
+ */
+public interface FitnessEvaluator {
+    void evaluate(List<Chromosome> chromosomes, FitnessFunction fitnessFunction);
+
+    /**
+     * Scores chromosomes with one call to a batch function over the first chromosomes.size() rows of genes,
+     * which must have their layout and enough capacity. The default runs the call on the calling thread.
+     */
+    default void evaluate(List<Chromosome> chromosomes, BatchFitnessFunction fitnessFunction, GeneMatrix genes) {
+        genes.setRows(chromosomes.size());
+        for (int row = 0; row < chromosomes.size(); row++) {
+            genes.loadRow(row, chromosomes.get(row));
+        }
+        genes.evaluate(fitnessFunction);
+        for (int row = 0; row < chromosomes.size(); row++) {
+            chromosomes.get(row).setFitness(genes.getFitness(row));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package genetic.evaluation;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ForkJoinEvaluator implements FitnessEvaluator {
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ForkJoinEvaluator(int chunkSize) {
+        this(ForkJoinPool.commonPool(), chunkSize);
+    }
+
+    public ForkJoinEvaluator(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void evaluate(List<Chromosome> chromosomes, FitnessFunction fitnessFunction) {
+        if (!fitnessFunction.isThreadSafe() || chromosomes.size() <= chunkSize) {
+            SequentialEvaluator.evaluateRange(chromosomes, fitnessFunction, 0, chromosomes.size());
+            return;
+        }
+        pool.invoke(new EvaluateTask(chromosomes, fitnessFunction, 0, chromosomes.size()));
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private class EvaluateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Chromosome> chromosomes;
+        private final FitnessFunction fitnessFunction;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(List<Chromosome> chromosomes, FitnessFunction fitnessFunction, int from, int to) {
+            this.chromosomes = chromosomes;
+            this.fitnessFunction = fitnessFunction;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                SequentialEvaluator.evaluateRange(chromosomes, fitnessFunction, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(chromosomes, fitnessFunction, from, mid),
+                    new EvaluateTask(chromosomes, fitnessFunction, mid, to));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package genetic.evaluation;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import java.util.List;
+
+public class SequentialEvaluator implements FitnessEvaluator {
+    @Override
+    public void evaluate(List<Chromosome> chromosomes, FitnessFunction fitnessFunction) {
+        evaluateRange(chromosomes, fitnessFunction, 0, chromosomes.size());
+    }
+
+    static void evaluateRange(List<Chromosome> chromosomes, FitnessFunction fitnessFunction, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Chromosome chrom = chromosomes.get(i);
+            chrom.setFitness(fitnessFunction.evaluate(chrom));
+        }
+    }
+}
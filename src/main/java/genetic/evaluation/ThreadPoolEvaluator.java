@@ -0,0 +1,25 @@
+package genetic.evaluation;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThreadPoolEvaluator extends ExecutorEvaluator {
+
+    public ThreadPoolEvaluator(int threads, int chunkSize) {
+        super(Executors.newFixedThreadPool(threads, daemonThreads()), chunkSize);
+    }
+
+    public ThreadPoolEvaluator(int chunkSize) {
+        this(Runtime.getRuntime().availableProcessors(), chunkSize);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "fitness-evaluator-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
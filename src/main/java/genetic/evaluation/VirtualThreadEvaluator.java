@@ -0,0 +1,27 @@
+package genetic.evaluation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs each chunk on its own virtual thread, which suits fitness functions that block on I/O.
+ * On runtimes without virtual threads (before Java 21) it falls back to a cached thread pool.
+ */
+public class VirtualThreadEvaluator extends ExecutorEvaluator {
+
+    public VirtualThreadEvaluator(int chunkSize) {
+        super(newVirtualThreadExecutor(), chunkSize);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "fitness-evaluator");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package genetic.examples;
 
 import genetic.GeneticAlgorithm;
-import genetic.api.FitnessFunction;
 import genetic.api.InfeasibleHandler;
 import genetic.chromosome.Chromosome;
 import genetic.chromosome.FloatChromosome;
 import genetic.chromosome.IntegerChromosome;
 import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
 import genetic.crossover.CrossoverOperator;
 import genetic.crossover.OnePointCrossover;
 import genetic.crossover.TwoPointCrossover;
 import genetic.crossover.UniformCrossover;
 import genetic.mutation.MutationOperator;
 import genetic.mutation.BinaryBitFlip;
+import genetic.mutation.PackedBinaryBitFlip;
 import genetic.mutation.IntegerRandomResetting;
 import genetic.mutation.IntegerCreepMutation;
 import genetic.mutation.IntegerSwap;
@@ -23,9 +24,10 @@ import genetic.replacement.Elitism;
 import genetic.replacement.SteadyState;
 import genetic.replacement.GenerationalReplacement;
 import genetic.selection.SelectionStrategy;
+import genetic.selection.AliasRouletteSelection;
 import genetic.selection.RouletteWheelSelection;
 import genetic.selection.TournamentSelection;
-import genetic.codec.ChromosomeToFloat;
+import genetic.codec.ChromosomeCodec;
 import java.util.Scanner;
 
 public class CaseStudyApplication {
@@ -40,6 +42,7 @@ public class CaseStudyApplication {
         System.out.println("1. FloatChromosome");
         System.out.println("2. IntegerChromosome");
         System.out.println("3. BinaryChromosome");
+        System.out.println("4. PackedBinaryChromosome");
         int chromChoice = scanner.nextInt();
         Chromosome prototype = null;
         switch (chromChoice) {
@@ -52,6 +55,9 @@ public class CaseStudyApplication {
             case 3:
                 prototype = new BinaryChromosome(NUM_PLOTS * 8); // 8 bits per plot
                 break;
+            case 4:
+                prototype = new PackedBinaryChromosome(NUM_PLOTS * BITS_PER_PLOT);
+                break;
             default:
                 System.out.println("Invalid choice, defaulting to FloatChromosome");
                 prototype = new FloatChromosome(NUM_PLOTS, 0.0, 10.0);
@@ -61,6 +67,7 @@ public class CaseStudyApplication {
         System.out.println("Select Selection Strategy:");
         System.out.println("1. RouletteWheelSelection");
         System.out.println("2. TournamentSelection");
+        System.out.println("3. AliasRouletteSelection");
         int selChoice = scanner.nextInt();
         SelectionStrategy selectionStrategy = null;
         switch (selChoice) {
@@ -70,6 +77,9 @@ public class CaseStudyApplication {
             case 2:
                 selectionStrategy = new TournamentSelection(3);
                 break;
+            case 3:
+                selectionStrategy = new AliasRouletteSelection();
+                break;
             default:
                 System.out.println("Invalid choice, defaulting to TournamentSelection");
                 selectionStrategy = new TournamentSelection(3);
@@ -81,7 +91,7 @@ public class CaseStudyApplication {
         System.out.println("2. TwoPointCrossover");
         System.out.println("3. UniformCrossover");
         int crossChoice = scanner.nextInt();
-        CrossoverOperator crossoverOperator = null;
+        CrossoverOperator<?> crossoverOperator = null;
         switch (crossChoice) {
             case 1:
                 crossoverOperator = new OnePointCrossover();
@@ -105,8 +115,9 @@ public class CaseStudyApplication {
         System.out.println("4. IntegerSwap (for IntegerChromosome)");
         System.out.println("5. FloatUniformMutation (for FloatChromosome)");
         System.out.println("6. FloatGaussian (for FloatChromosome)");
+        System.out.println("7. PackedBinaryBitFlip (for PackedBinaryChromosome)");
         int mutChoice = scanner.nextInt();
-        MutationOperator mutationOperator = null;
+        MutationOperator<?> mutationOperator = null;
         switch (mutChoice) {
             case 1:
                 mutationOperator = new BinaryBitFlip(0.05);
@@ -126,6 +137,9 @@ public class CaseStudyApplication {
             case 6:
                 mutationOperator = new FloatGaussian(0.05, 0.1);
                 break;
+            case 7:
+                mutationOperator = new PackedBinaryBitFlip(0.05);
+                break;
             default:
                 System.out.println("Invalid choice, defaulting to FloatGaussian");
                 mutationOperator = new FloatGaussian(0.05, 0.1);
@@ -155,7 +169,7 @@ public class CaseStudyApplication {
 
         long startTime = System.currentTimeMillis();
 
-        FitnessFunction fitnessFunction = new IrrigationFitnessFunction();
+        IrrigationFitnessFunction fitnessFunction = new IrrigationFitnessFunction();
         InfeasibleHandler infeasibleHandler = new IrrigationInfeasibleHandler();
 
 
@@ -168,7 +182,10 @@ public class CaseStudyApplication {
         ga.setCrossoverOperator(crossoverOperator);
         ga.setMutationOperator(mutationOperator);
         ga.setReplacementStrategy(replacementStrategy);
-        ga.setFitnessFunction(fitnessFunction);
+        ga.setFitnessFunction(fitnessFunction); // also scores whole generations in one batch call
+        if (!(prototype instanceof PackedBinaryChromosome)) { // no gene matrix layout for packed genes
+            ga.setStructureOfArrays(true); // genes stay in the batch function's matrix between generations
+        }
         ga.setInfeasibleHandler(infeasibleHandler);
         ga.setPrototype(prototype);
 
@@ -179,7 +196,8 @@ public class CaseStudyApplication {
 
 
         System.out.println("Optimal Irrigation Plan:");
-        double[] irrigation = ChromosomeToFloat.decode(best, NUM_PLOTS, BITS_PER_PLOT);
+        double[] irrigation = new double[NUM_PLOTS];
+        new ChromosomeCodec(NUM_PLOTS, BITS_PER_PLOT).decode(best, irrigation);
         double totalWater = 0.0;
         for (int i = 0; i < NUM_PLOTS; i++) {
             System.out.printf("Plot %d: %.2f liters%n", i + 1, irrigation[i]);
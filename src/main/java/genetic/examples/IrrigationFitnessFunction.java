@@ -1,19 +1,31 @@
 package genetic.examples;
 
-import genetic.api.FitnessFunction;
+import genetic.api.IncrementalFitnessFunction;
 import genetic.chromosome.Chromosome;
-import genetic.codec.ChromosomeToFloat;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.GeneChanges;
+import genetic.chromosome.IntegerChromosome;
+import genetic.codec.ChromosomeCodec;
+import genetic.soa.BatchFitnessFunction;
+import genetic.soa.BinaryGeneMatrix;
+import genetic.soa.FloatGeneMatrix;
+import genetic.soa.GeneMatrix;
+import genetic.soa.IntegerGeneMatrix;
 
-public class IrrigationFitnessFunction implements FitnessFunction {
+public class IrrigationFitnessFunction implements IncrementalFitnessFunction, BatchFitnessFunction {
     private static final int NUM_PLOTS = 5;
     private static final double MOISTURE_THRESHOLD = 0.5; // Minimum soil moisture
     private static final double[] ABSORPTION_RATES = {0.8, 0.9, 1.0, 0.7, 0.85}; // Absorption per plot
     private static final double PENALTY_FACTOR = 100.0;
     private static final int BITS_PER_PLOT = 8;
+    private static final ChromosomeCodec CODEC = new ChromosomeCodec(NUM_PLOTS, BITS_PER_PLOT);
+
+    private final ThreadLocal<double[]> irrigationBuffer = ThreadLocal.withInitial(() -> new double[NUM_PLOTS]);
 
     @Override
     public double evaluate(Chromosome chromosome) {
-        double[] irrigation = ChromosomeToFloat.decode(chromosome, NUM_PLOTS, BITS_PER_PLOT);
+        double[] irrigation = irrigationBuffer.get();
+        CODEC.decode(chromosome, irrigation);
 
         double totalWater = 0.0;
         double penalty = 0.0;
@@ -28,4 +40,87 @@ public class IrrigationFitnessFunction implements FitnessFunction {
 
         return 1.0 / (totalWater + penalty);
     }
+
+    // One pass over the matrix's primitive array per encoding. The penalty is computed without a branch;
+    // well-watered plots add exactly zero, so every row scores exactly as evaluate would score it.
+    @Override
+    public void evaluate(GeneMatrix genes, double[] scores) {
+        int rows = genes.getRows();
+        int length = genes.getLength();
+        if (genes instanceof FloatGeneMatrix) {
+            double[] values = ((FloatGeneMatrix) genes).getGenes();
+            for (int row = 0; row < rows; row++) {
+                int base = row * length;
+                double totalWater = 0.0;
+                double penalty = 0.0;
+                for (int i = 0; i < NUM_PLOTS; i++) {
+                    double water = values[base + i];
+                    totalWater += water;
+                    penalty += Math.max(0.0, MOISTURE_THRESHOLD - water * ABSORPTION_RATES[i]) * PENALTY_FACTOR;
+                }
+                scores[row] = 1.0 / (totalWater + penalty);
+            }
+        } else if (genes instanceof IntegerGeneMatrix) {
+            int[] values = ((IntegerGeneMatrix) genes).getGenes();
+            for (int row = 0; row < rows; row++) {
+                int base = row * length;
+                double totalWater = 0.0;
+                double penalty = 0.0;
+                for (int i = 0; i < NUM_PLOTS; i++) {
+                    double water = values[base + i];
+                    totalWater += water;
+                    penalty += Math.max(0.0, MOISTURE_THRESHOLD - water * ABSORPTION_RATES[i]) * PENALTY_FACTOR;
+                }
+                scores[row] = 1.0 / (totalWater + penalty);
+            }
+        } else {
+            boolean[] bits = ((BinaryGeneMatrix) genes).getGenes();
+            double maxRaw = (1 << BITS_PER_PLOT) - 1;
+            for (int row = 0; row < rows; row++) {
+                int base = row * length;
+                double totalWater = 0.0;
+                double penalty = 0.0;
+                for (int i = 0; i < NUM_PLOTS; i++) {
+                    int raw = 0;
+                    for (int j = 0; j < BITS_PER_PLOT; j++) {
+                        raw = (raw << 1) | (bits[base + i * BITS_PER_PLOT + j] ? 1 : 0);
+                    }
+                    double water = raw / maxRaw;
+                    totalWater += water;
+                    penalty += Math.max(0.0, MOISTURE_THRESHOLD - water * ABSORPTION_RATES[i]) * PENALTY_FACTOR;
+                }
+                scores[row] = 1.0 / (totalWater + penalty);
+            }
+        }
+    }
+
+    // Float and integer chromosomes hold one gene per plot, so only the changed plots' costs are replaced.
+    // Binary encodings spread a plot over several genes and are evaluated in full.
+    @Override
+    public double evaluateDelta(Chromosome chromosome, double previousFitness, GeneChanges changes) {
+        boolean isFloat = chromosome instanceof FloatChromosome;
+        if (!isFloat && !(chromosome instanceof IntegerChromosome)) {
+            return evaluate(chromosome);
+        }
+        double cost = 1.0 / previousFitness;
+        for (int k = 0; k < changes.size(); k++) {
+            int plot = changes.getPosition(k);
+            if (plot < NUM_PLOTS) {
+                double water = isFloat ? ((FloatChromosome) chromosome).getGene(plot)
+                        : ((IntegerChromosome) chromosome).getGene(plot);
+                cost += plotCost(plot, water) - plotCost(plot, changes.getPreviousValue(k));
+            }
+        }
+        return 1.0 / cost;
+    }
+
+    private static double plotCost(int plot, double water) {
+        double moisture = water * ABSORPTION_RATES[plot];
+        return moisture < MOISTURE_THRESHOLD ? water + (MOISTURE_THRESHOLD - moisture) * PENALTY_FACTOR : water;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
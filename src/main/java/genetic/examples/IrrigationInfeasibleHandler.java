@@ -2,17 +2,21 @@ package genetic.examples;
 
 import genetic.api.InfeasibleHandler;
 import genetic.chromosome.Chromosome;
-import genetic.codec.ChromosomeToFloat;
+import genetic.codec.ChromosomeCodec;
 
 public class IrrigationInfeasibleHandler implements InfeasibleHandler {
     private static final int NUM_PLOTS = 5;
     private static final double MOISTURE_THRESHOLD = 0.5; // Minimum soil moisture
     private static final double[] ABSORPTION_RATES = {0.8, 0.9, 1.0, 0.7, 0.85}; // Absorption per plot
     private static final int BITS_PER_PLOT = 8;
+    private static final ChromosomeCodec CODEC = new ChromosomeCodec(NUM_PLOTS, BITS_PER_PLOT);
+
+    private final ThreadLocal<double[]> irrigationBuffer = ThreadLocal.withInitial(() -> new double[NUM_PLOTS]);
 
     @Override
     public Chromosome handle(Chromosome chromosome) {
-        double[] irrigation = ChromosomeToFloat.decode(chromosome, NUM_PLOTS, BITS_PER_PLOT);
+        double[] irrigation = irrigationBuffer.get();
+        CODEC.decode(chromosome, irrigation);
 
         for (int i = 0; i < NUM_PLOTS; i++) {
             double moisture = irrigation[i] * ABSORPTION_RATES[i];
@@ -21,7 +25,7 @@ public class IrrigationInfeasibleHandler implements InfeasibleHandler {
             }
         }
 
-        ChromosomeToFloat.encode(chromosome, irrigation, BITS_PER_PLOT);
+        CODEC.encode(chromosome, irrigation);
         return chromosome;
     }
 }
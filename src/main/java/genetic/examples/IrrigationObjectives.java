@@ -0,0 +1,44 @@
+package genetic.examples;
+
+import genetic.api.MultiObjectiveFitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.codec.ChromosomeCodec;
+
+/**
+ * The irrigation problem with water usage and moisture shortfall as separate objectives instead of
+ * IrrigationFitnessFunction's single 1 / (total + penalty). Both are costs, so both are negated.
+ */
+public class IrrigationObjectives implements MultiObjectiveFitnessFunction {
+    private static final int NUM_PLOTS = 5;
+    private static final double MOISTURE_THRESHOLD = 0.5; // Minimum soil moisture
+    private static final double[] ABSORPTION_RATES = {0.8, 0.9, 1.0, 0.7, 0.85}; // Absorption per plot
+    private static final int BITS_PER_PLOT = 8;
+    private static final ChromosomeCodec CODEC = new ChromosomeCodec(NUM_PLOTS, BITS_PER_PLOT);
+
+    private final ThreadLocal<double[]> irrigationBuffer = ThreadLocal.withInitial(() -> new double[NUM_PLOTS]);
+
+    @Override
+    public int getObjectiveCount() {
+        return 2;
+    }
+
+    @Override
+    public void evaluate(Chromosome chromosome, double[] objectives, int offset) {
+        double[] irrigation = irrigationBuffer.get();
+        CODEC.decode(chromosome, irrigation);
+
+        double totalWater = 0.0;
+        double shortfall = 0.0;
+        for (int i = 0; i < NUM_PLOTS; i++) {
+            totalWater += irrigation[i];
+            shortfall += Math.max(0.0, MOISTURE_THRESHOLD - irrigation[i] * ABSORPTION_RATES[i]);
+        }
+        objectives[offset] = -totalWater;
+        objectives[offset + 1] = -shortfall;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package genetic.examples;
+
+import genetic.chromosome.FloatChromosome;
+import genetic.crossover.TwoPointCrossover;
+import genetic.multiobjective.NSGA2;
+import genetic.multiobjective.ParetoArchive;
+import genetic.mutation.FloatGaussian;
+
+/**
+ * Finds the trade-off between water usage and moisture shortfall with NSGA-II and prints the Pareto front.
+ */
+public class IrrigationParetoExample {
+    private static final int NUM_PLOTS = 5;
+
+    public static void main(String[] args) {
+        NSGA2 nsga = new NSGA2();
+        nsga.setPopulationSize(100);
+        nsga.setGenerations(200);
+        nsga.setCrossoverProbability(0.9);
+        nsga.setMutationProbability(0.2);
+        nsga.setCrossoverOperator(new TwoPointCrossover());
+        nsga.setMutationOperator(new FloatGaussian(0.2, 0.05));
+        nsga.setFitnessFunction(new IrrigationObjectives());
+        nsga.setPrototype(new FloatChromosome(NUM_PLOTS, 0.0, 1.0));
+        nsga.setArchiveCapacity(20);
+
+        long startTime = System.currentTimeMillis();
+        ParetoArchive front = nsga.run();
+        long endTime = System.currentTimeMillis();
+
+        System.out.println("Pareto front (water usage vs. moisture shortfall):");
+        for (int i = 0; i < front.size(); i++) {
+            System.out.printf("Water: %.3f liters, Shortfall: %.3f%n", -front.getObjective(i, 0), -front.getObjective(i, 1));
+        }
+        System.out.printf("Runtime: %d ms%n", (endTime - startTime));
+    }
+}
@@ -0,0 +1,174 @@
+package genetic.island;
+
+import genetic.GeneticAlgorithm;
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs several GeneticAlgorithm instances ("islands") concurrently, one thread each.
+ * Every migrationInterval generations each island sends copies of its best individuals to its
+ * neighbours in the topology and absorbs whatever migrants are waiting in its own lock-free inbox,
+ * overwriting its worst individuals. Islands never wait for each other.
+ *
+ * Each island must be configured with its own operator instances: selection and replacement
+ * strategies keep per-generation state and are not safe to share between threads.
+ * With a seed, island i draws from Rng.stream(seed, i) on its own thread; islands must not have seeds
+ * of their own, which would replace that stream. Migration timing between islands is still
+ * nondeterministic, so only runs without migration are fully reproducible. Island checkpoints are
+ * deleted when the island finishes.
+ * An island whose termination criterion is met stops early while the others carry on.
+ */
+public class IslandModel {
+    private final List<GeneticAlgorithm> islands = new ArrayList<>();
+    private MigrationTopology topology = MigrationTopology.RING;
+    private int migrationInterval = 10;
+    private double migrationRate = 0.1;
+    private Long seed;
+    private List<Chromosome> islandBests = new ArrayList<>();
+
+    public void addIsland(GeneticAlgorithm island) { islands.add(island); }
+    public void setTopology(MigrationTopology topology) { this.topology = topology; }
+    public void setMigrationInterval(int migrationInterval) { this.migrationInterval = migrationInterval; }
+    public void setMigrationRate(double migrationRate) { this.migrationRate = migrationRate; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public Chromosome run() {
+        int count = islands.size();
+        if (count == 0) {
+            throw new IllegalStateException("No islands configured");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalStateException("migrationInterval must be positive");
+        }
+        for (int i = 0; i < count; i++) {
+            if (islands.get(i).getSeed() != null) {
+                throw new IllegalStateException("Island " + i + " has its own seed; seed the island model instead");
+            }
+        }
+
+        List<Queue<Chromosome>> inboxes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inboxes.add(new ConcurrentLinkedQueue<>());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(count, runnable -> {
+            Thread thread = new Thread(runnable, "island");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Chromosome>> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                results.add(executor.submit(() -> evolveIsland(index, inboxes)));
+            }
+
+            List<Chromosome> bests = new ArrayList<>(count);
+            for (Future<Chromosome> result : results) {
+                bests.add(result.get());
+            }
+            islandBests = bests;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Island model interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Island failed", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Chromosome best = null;
+        for (Chromosome chrom : islandBests) {
+            if (best == null || chrom.getFitness() > best.getFitness()) {
+                best = chrom;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the best individual of each island from the last run, in island order.
+     */
+    public List<Chromosome> getIslandBests() {
+        return islandBests;
+    }
+
+    private Chromosome evolveIsland(int index, List<Queue<Chromosome>> inboxes) {
+        GeneticAlgorithm island = islands.get(index);
+        Rng.setCurrent(seed != null ? Rng.stream(seed, index) : Rng.current().split());
+        Rng random = Rng.current();
+        Population population = island.initializePopulation();
+        int migrants = Math.max(1, (int) Math.round(population.getSize() * migrationRate));
+        int[] emigrants = new int[Math.min(migrants, population.getSize())];
+        List<Chromosome> arrivals = new ArrayList<>(population.getSize() / 2);
+        int[] worst = new int[population.getSize() / 2];
+
+        for (int gen = 0; gen < island.getGenerations() && !island.isTerminated(); gen++) {
+            population = island.nextGeneration(population, gen);
+            if ((gen + 1) % migrationInterval == 0 && inboxes.size() > 1) {
+                emigrate(index, population, emigrants, inboxes, random);
+                immigrate(population, inboxes.get(index), arrivals, worst);
+            }
+        }
+        island.deleteCheckpoint();
+        return population.getBest().copy();
+    }
+
+    private void emigrate(int index, Population population, int[] emigrants, List<Queue<Chromosome>> inboxes, Rng random) {
+        population.extremeIndices(emigrants, true);
+        int count = inboxes.size();
+        switch (topology) {
+            case RING:
+                send(population, emigrants, inboxes.get((index + 1) % count));
+                break;
+            case FULLY_CONNECTED:
+                for (int target = 0; target < count; target++) {
+                    if (target != index) {
+                        send(population, emigrants, inboxes.get(target));
+                    }
+                }
+                break;
+            case RANDOM:
+                int target = random.nextInt(count - 1);
+                send(population, emigrants, inboxes.get(target >= index ? target + 1 : target));
+                break;
+        }
+    }
+
+    private static void send(Population population, int[] emigrants, Queue<Chromosome> inbox) {
+        for (int i : emigrants) {
+            inbox.offer(population.getChromosomes().get(i).copy());
+        }
+    }
+
+    // Migrants overwrite the worst individuals; at most half the island is replaced per migration
+    // (arrivals and worst are per-island buffers reused between migrations)
+    private static void immigrate(Population population, Queue<Chromosome> inbox, List<Chromosome> arrivals, int[] worst) {
+        arrivals.clear();
+        Chromosome migrant;
+        while (arrivals.size() < worst.length && (migrant = inbox.poll()) != null) {
+            arrivals.add(migrant);
+        }
+        if (arrivals.isEmpty()) {
+            return;
+        }
+        population.extremeIndices(worst, arrivals.size(), false);
+        for (int i = 0; i < arrivals.size(); i++) {
+            population.getChromosomes().get(worst[i]).copyFrom(arrivals.get(i));
+        }
+        arrivals.clear();
+    }
+}
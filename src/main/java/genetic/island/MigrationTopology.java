@@ -0,0 +1,10 @@
+package genetic.island;
+
+public enum MigrationTopology {
+    /** Island i sends migrants to island (i + 1) mod K. */
+    RING,
+    /** Every island sends migrants to every other island. */
+    FULLY_CONNECTED,
+    /** Each migration, every island sends migrants to one other island picked at random. */
+    RANDOM
+}
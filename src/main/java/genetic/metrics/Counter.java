@@ -0,0 +1,27 @@
+package genetic.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter. Increments from different threads go to separate cells,
+ * so counting on hot paths does not contend.
+ */
+public class Counter {
+    private final LongAdder count = new LongAdder();
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public void reset() {
+        count.reset();
+    }
+}
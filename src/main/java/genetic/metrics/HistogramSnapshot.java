@@ -0,0 +1,35 @@
+package genetic.metrics;
+
+/**
+ * Point-in-time summary of a LatencyHistogram. All values are in nanoseconds;
+ * percentiles are accurate to the histogram's bucket precision.
+ */
+public class HistogramSnapshot {
+    private final long count;
+    private final double mean;
+    private final long max;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+
+    public HistogramSnapshot(long count, double mean, long max, long p50, long p99, long p999) {
+        this.count = count;
+        this.mean = mean;
+        this.max = max;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+    }
+
+    public long getCount() { return count; }
+    public double getMean() { return mean; }
+    public long getMax() { return max; }
+    public long getP50() { return p50; }
+    public long getP99() { return p99; }
+    public long getP999() { return p999; }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns", count, mean, p50, p99, p999, max);
+    }
+}
@@ -0,0 +1,124 @@
+package genetic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in nanoseconds, in the style of HdrHistogram: every power of two is
+ * split into 16 linear sub-buckets, so recorded values keep about 6% relative precision over the
+ * whole long range in a fixed 960-slot array.
+ *
+ * Recording threads are spread over a fixed number of striped accumulators by thread id, so memory
+ * does not grow with the number of threads (short-lived pool or virtual threads included) and threads
+ * rarely contend on the same stripe. Snapshots merge the stripes and may miss values recorded
+ * concurrently with them.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final int STRIPES = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+
+    private final Accumulator[] accumulators = new Accumulator[STRIPES];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            accumulators[i] = new Accumulator();
+        }
+    }
+
+    public void record(long nanos) {
+        Accumulator accumulator = accumulators[stripe(Thread.currentThread().getId())];
+        long value = Math.max(0, nanos);
+        accumulator.counts.incrementAndGet(bucketOf(value));
+        accumulator.count.incrementAndGet();
+        accumulator.total.addAndGet(value);
+        if (value > accumulator.max.get()) {
+            accumulator.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        long total = 0;
+        long max = 0;
+        for (Accumulator accumulator : accumulators) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += accumulator.counts.get(i);
+            }
+            count += accumulator.count.get();
+            total += accumulator.total.get();
+            max = Math.max(max, accumulator.max.get());
+        }
+        return new HistogramSnapshot(count, count == 0 ? 0 : (double) total / count, max,
+                percentile(counts, count, max, 0.50), percentile(counts, count, max, 0.99),
+                percentile(counts, count, max, 0.999));
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently with the reset may survive it.
+     */
+    public void reset() {
+        for (Accumulator accumulator : accumulators) {
+            accumulator.clear();
+        }
+    }
+
+    // Thread ids are sequential, so they are mixed before taking the low bits
+    private static int stripe(long threadId) {
+        long z = threadId * 0x9e3779b97f4a7c15L;
+        return (int) (z ^ (z >>> 32)) & (STRIPES - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // Upper bound of the values that fall into the bucket
+    static long bucketLimit(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lower = (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << (exponent - SUB_BUCKET_BITS);
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private static long percentile(long[] counts, long count, long max, double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, bucketLimit(i));
+            }
+        }
+        return max;
+    }
+
+    private static class Accumulator {
+        final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong total = new AtomicLong();
+        final AtomicLong max = new AtomicLong();
+
+        void clear() {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0);
+            }
+            count.set(0);
+            total.set(0);
+            max.set(0);
+        }
+    }
+}
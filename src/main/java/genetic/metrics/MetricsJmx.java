@@ -0,0 +1,61 @@
+package genetic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes a MetricsRegistry on the platform MBean server under genetic:type=Metrics,name=&lt;name&gt;.
+ */
+public class MetricsJmx implements MetricsMXBean {
+    private final MetricsRegistry registry;
+
+    private MetricsJmx(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static ObjectName register(MetricsRegistry registry, String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(new MetricsJmx(registry), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics " + name, e);
+        }
+    }
+
+    public static void unregister(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister metrics " + name, e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("genetic:type=Metrics,name=" + ObjectName.quote(name));
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counts = new TreeMap<>();
+        registry.getCounters().forEach((name, counter) -> counts.put(name, counter.getCount()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, HistogramSnapshot> getHistograms() {
+        Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+        registry.getHistograms().forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return snapshots;
+    }
+
+    @Override
+    public void reset() {
+        registry.reset();
+    }
+}
@@ -0,0 +1,14 @@
+package genetic.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of a MetricsRegistry, registered with MetricsJmx.
+ */
+public interface MetricsMXBean {
+    Map<String, Long> getCounters();
+
+    Map<String, HistogramSnapshot> getHistograms();
+
+    void reset();
+}
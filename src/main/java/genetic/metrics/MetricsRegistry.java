@@ -0,0 +1,31 @@
+package genetic.metrics;
+
+import java.util.Map;
+
+/**
+ * Named counters and latency histograms. Metrics are created on first use and live as long as the registry.
+ */
+public interface MetricsRegistry {
+    Counter counter(String name);
+
+    LatencyHistogram histogram(String name);
+
+    /**
+     * Returns a read-only view of all counters by name.
+     */
+    Map<String, Counter> getCounters();
+
+    /**
+     * Returns a read-only view of all histograms by name.
+     */
+    Map<String, LatencyHistogram> getHistograms();
+
+    default void reset() {
+        for (Counter counter : getCounters().values()) {
+            counter.reset();
+        }
+        for (LatencyHistogram histogram : getHistograms().values()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package genetic.metrics;
+
+import genetic.soa.BatchFitnessFunction;
+import genetic.soa.GeneMatrix;
+
+/**
+ * Records the latency of the wrapped batch function per row: the time of each call divided by its
+ * rows, once for every row, so the histogram counts evaluations like TimedFitnessFunction does.
+ */
+public class TimedBatchFitnessFunction implements BatchFitnessFunction {
+    private final BatchFitnessFunction delegate;
+    private final LatencyHistogram histogram;
+
+    public TimedBatchFitnessFunction(BatchFitnessFunction delegate, LatencyHistogram histogram) {
+        this.delegate = delegate;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void evaluate(GeneMatrix genes, double[] scores) {
+        long start = System.nanoTime();
+        delegate.evaluate(genes, scores);
+        int rows = genes.getRows();
+        if (rows > 0) {
+            long perRow = (System.nanoTime() - start) / rows;
+            for (int row = 0; row < rows; row++) {
+                histogram.record(perRow);
+            }
+        }
+    }
+}
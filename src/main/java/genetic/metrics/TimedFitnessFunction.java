@@ -0,0 +1,30 @@
+package genetic.metrics;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+
+/**
+ * Records the latency of every call to the wrapped fitness function.
+ */
+public class TimedFitnessFunction implements FitnessFunction {
+    private final FitnessFunction delegate;
+    private final LatencyHistogram histogram;
+
+    public TimedFitnessFunction(FitnessFunction delegate, LatencyHistogram histogram) {
+        this.delegate = delegate;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public double evaluate(Chromosome chromosome) {
+        long start = System.nanoTime();
+        double fitness = delegate.evaluate(chromosome);
+        histogram.record(System.nanoTime() - start);
+        return fitness;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return delegate.isThreadSafe();
+    }
+}
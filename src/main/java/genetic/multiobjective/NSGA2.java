@@ -0,0 +1,230 @@
+package genetic.multiobjective;
+
+import genetic.api.InfeasibleHandler;
+import genetic.api.MultiObjectiveFitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.crossover.CrossoverOperator;
+import genetic.mutation.MutationOperator;
+import genetic.random.Rng;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * NSGA-II for problems with several objectives. Each generation breeds populationSize offspring from
+ * parents chosen by binary tournament on front rank and then crowding distance, sorts parents and
+ * offspring together into non-dominated fronts and keeps the best fronts, cutting the last one by
+ * crowding distance. Every offspring that lands on the first front is offered to a ParetoArchive,
+ * which run returns.
+ *
+ * Parents and offspring live in one array of 2 * populationSize chromosomes whose objective vectors are
+ * stored row by row in a single double array; chromosomes that do not survive are reused as the next
+ * offspring. Dominance checks run on the pool, and so does evaluation if the fitness function is thread-safe.
+ */
+public class NSGA2 {
+    private int populationSize = 100;
+    private int generations = 100;
+    private double crossoverProbability = 0.7;
+    private double mutationProbability = 0.05;
+    private int archiveCapacity;
+    private CrossoverOperator<?> crossoverOperator;
+    private MutationOperator<?> mutationOperator;
+    private MultiObjectiveFitnessFunction fitnessFunction;
+    private InfeasibleHandler infeasibleHandler;
+    private Chromosome prototype;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Long seed;
+
+    // Per-run state
+    private int m;
+    private Chromosome[] chromosomes;
+    private double[] objectives;
+    private int[] rank;
+    private double[] crowding;
+    private Chromosome[] nextChromosomes;
+    private double[] nextObjectives;
+    private int[] nextRank;
+    private double[] nextCrowding;
+    private NonDominatedSorting sorting;
+    private ParetoArchive archive;
+    private CrossoverOperator<Chromosome> crossover;
+    private MutationOperator<Chromosome> mutation;
+
+    public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
+    public void setGenerations(int generations) { this.generations = generations; }
+    public void setCrossoverProbability(double crossoverProbability) { this.crossoverProbability = crossoverProbability; }
+    public void setMutationProbability(double mutationProbability) { this.mutationProbability = mutationProbability; }
+    public void setCrossoverOperator(CrossoverOperator<?> crossoverOperator) { this.crossoverOperator = crossoverOperator; }
+    public void setMutationOperator(MutationOperator<?> mutationOperator) { this.mutationOperator = mutationOperator; }
+    public void setFitnessFunction(MultiObjectiveFitnessFunction fitnessFunction) { this.fitnessFunction = fitnessFunction; }
+    public void setInfeasibleHandler(InfeasibleHandler infeasibleHandler) { this.infeasibleHandler = infeasibleHandler; }
+    public void setPrototype(Chromosome prototype) { this.prototype = prototype; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    /**
+     * Sets the largest number of solutions the archive keeps; 0 (the default) means populationSize.
+     */
+    public void setArchiveCapacity(int archiveCapacity) { this.archiveCapacity = archiveCapacity; }
+
+    /**
+     * Sets the pool used for dominance checks and thread-safe evaluation; null runs everything on the caller.
+     */
+    public void setPool(ForkJoinPool pool) { this.pool = pool; }
+
+    public ParetoArchive run() {
+        if (populationSize < 2) {
+            throw new IllegalStateException("At least two chromosomes are required");
+        }
+        crossover = CrossoverOperator.forPrototype(crossoverOperator, prototype);
+        mutation = MutationOperator.forPrototype(mutationOperator, prototype);
+        if (seed != null) {
+            Rng.setCurrent(new Rng(seed));
+        }
+        int n = populationSize;
+        m = fitnessFunction.getObjectiveCount();
+        chromosomes = new Chromosome[2 * n];
+        objectives = new double[2 * n * m];
+        rank = new int[2 * n];
+        crowding = new double[2 * n];
+        nextChromosomes = new Chromosome[2 * n];
+        nextObjectives = new double[2 * n * m];
+        nextRank = new int[2 * n];
+        nextCrowding = new double[2 * n];
+        sorting = new NonDominatedSorting(pool);
+        archive = new ParetoArchive(m, archiveCapacity > 0 ? archiveCapacity : n);
+
+        for (int i = 0; i < 2 * n; i++) {
+            chromosomes[i] = prototype.copy();
+        }
+        for (int i = 0; i < n; i++) {
+            chromosomes[i].initialize();
+        }
+        evaluate(0, n);
+        sorting.sort(objectives, n, m);
+        int[] order = sorting.getOrder();
+        for (int f = 0; f < sorting.getFrontCount(); f++) {
+            NonDominatedSorting.crowdingDistance(objectives, m, order, sorting.getFrontStart(f), sorting.getFrontEnd(f), crowding);
+        }
+        for (int i = 0; i < n; i++) {
+            rank[i] = sorting.getRank(i);
+            if (rank[i] == 0) {
+                archive.add(chromosomes[i], objectives, i * m);
+            }
+        }
+
+        Rng random = Rng.current();
+        for (int gen = 0; gen < generations; gen++) {
+            breed(gen, random);
+            evaluate(n, 2 * n);
+            survive();
+        }
+        return archive;
+    }
+
+    // Fills rows [n, 2n) with offspring of tournament winners from rows [0, n)
+    private void breed(int gen, Rng random) {
+        int n = populationSize;
+        for (int i = n; i < 2 * n; i += 2) {
+            Chromosome child1 = chromosomes[i];
+            // An odd population breeds its last child against a throwaway partner
+            Chromosome child2 = i + 1 < 2 * n ? chromosomes[i + 1] : prototype.copy();
+            child1.copyFrom(chromosomes[tournament(random)]);
+            child2.copyFrom(chromosomes[tournament(random)]);
+            if (random.nextDouble() < crossoverProbability) {
+                crossover.crossoverInPlace(child1, child2);
+            }
+            if (random.nextDouble() < mutationProbability) {
+                mutation.mutate(child1, gen, generations);
+            }
+            if (random.nextDouble() < mutationProbability) {
+                mutation.mutate(child2, gen, generations);
+            }
+            if (infeasibleHandler != null) {
+                infeasibleHandler.handle(child1);
+                infeasibleHandler.handle(child2);
+            }
+        }
+    }
+
+    // Binary tournament on the crowded comparison: lower rank wins, then larger crowding distance
+    private int tournament(Rng random) {
+        int a = random.nextInt(populationSize);
+        int b = random.nextInt(populationSize);
+        if (rank[a] != rank[b]) {
+            return rank[a] < rank[b] ? a : b;
+        }
+        return crowding[b] > crowding[a] ? b : a;
+    }
+
+    // Keeps the best populationSize of the 2 * populationSize rows in [0, n) and moves the rest to [n, 2n)
+    private void survive() {
+        int n = populationSize;
+        sorting.sort(objectives, 2 * n, m);
+        int[] order = sorting.getOrder();
+        int kept = 0;
+        for (int f = 0; f < sorting.getFrontCount() && kept < n; f++) {
+            int start = sorting.getFrontStart(f);
+            int end = sorting.getFrontEnd(f);
+            NonDominatedSorting.crowdingDistance(objectives, m, order, start, end, crowding);
+            if (kept + end - start > n) {
+                NonDominatedSorting.sortByCrowding(order, start, end, crowding);
+            }
+            kept += end - start;
+        }
+        for (int i = 0; i < 2 * n; i++) {
+            int row = order[i];
+            nextChromosomes[i] = chromosomes[row];
+            System.arraycopy(objectives, row * m, nextObjectives, i * m, m);
+            nextRank[i] = sorting.getRank(row);
+            nextCrowding[i] = crowding[row];
+            if (i < n && row >= n && nextRank[i] == 0) {
+                archive.add(chromosomes[row], objectives, row * m);
+            }
+        }
+        Chromosome[] c = chromosomes;
+        chromosomes = nextChromosomes;
+        nextChromosomes = c;
+        double[] o = objectives;
+        objectives = nextObjectives;
+        nextObjectives = o;
+        int[] r = rank;
+        rank = nextRank;
+        nextRank = r;
+        double[] d = crowding;
+        crowding = nextCrowding;
+        nextCrowding = d;
+    }
+
+    private void evaluate(int from, int to) {
+        if (pool != null && pool.getParallelism() > 1 && fitnessFunction.isThreadSafe()) {
+            pool.invoke(new EvaluateTask(from, to));
+        } else {
+            for (int i = from; i < to; i++) {
+                fitnessFunction.evaluate(chromosomes[i], objectives, i * m);
+            }
+        }
+    }
+
+    private class EvaluateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        EvaluateTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 16) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new EvaluateTask(from, mid), new EvaluateTask(mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                fitnessFunction.evaluate(chromosomes[i], objectives, i * m);
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package genetic.multiobjective;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fast non-dominated sorting and crowding distance over objective vectors stored row by row in one
+ * array (row i occupies objectives[i * m, (i + 1) * m)). All objectives are maximized.
+ *
+ * sort first orders the rows lexicographically from best to worst. A row can then only be dominated by
+ * rows before it, and its front is one more than the highest front of the earlier rows that dominate it
+ * (0 if there are none). Rows are ranked in blocks: the checks of a block's rows against all earlier
+ * blocks are independent and split between the tasks of a ForkJoinPool, and only the few checks within
+ * the block run in sequence. That is N^2 / 2 dominance checks, O(M N^2), with no dominance lists and
+ * O(N) memory. Buffers are reused between calls; instances are not thread-safe.
+ */
+public class NonDominatedSorting {
+    private static final int BLOCK = 256;
+    private static final int MIN_CHUNK = 16;
+
+    private final ForkJoinPool pool;
+    private double[] sorted = new double[0];
+    private int[] rows = new int[0];
+    private int[] level = new int[0];
+    private int[] rank = new int[0];
+    private int[] order = new int[0];
+    private int[] frontStarts = new int[1];
+    private int frontCount;
+
+    public NonDominatedSorting() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sorter that checks dominance on the given pool, or sequentially if pool is null.
+     */
+    public NonDominatedSorting(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns true if row a dominates row b: at least as good on every objective and better on one.
+     */
+    public static boolean dominates(double[] objectives, int a, int b, int m) {
+        return dominates(objectives, a * m, objectives, b * m, m);
+    }
+
+    public static boolean dominates(double[] a, int aOffset, double[] b, int bOffset, int m) {
+        boolean better = false;
+        for (int k = 0; k < m; k++) {
+            double x = a[aOffset + k];
+            double y = b[bOffset + k];
+            if (x < y) {
+                return false;
+            }
+            if (x > y) {
+                better = true;
+            }
+        }
+        return better;
+    }
+
+    /**
+     * Sorts the first n rows into fronts. Afterwards getOrder lists the rows front by front.
+     */
+    public void sort(double[] objectives, int n, int m) {
+        if (rows.length < n) {
+            rows = new int[n];
+            level = new int[n];
+            rank = new int[n];
+            order = new int[n];
+            frontStarts = new int[n + 2];
+        }
+        if (sorted.length < n * m) {
+            sorted = new double[n * m];
+        }
+        // Work on positions in lexicographic order, with the rows copied there so scans are sequential
+        for (int i = 0; i < n; i++) {
+            rows[i] = i;
+        }
+        sortRows(rows, 0, n - 1, objectives, m, 0, m, true);
+        for (int p = 0; p < n; p++) {
+            System.arraycopy(objectives, rows[p] * m, sorted, p * m, m);
+        }
+
+        frontCount = 0;
+        for (int blockStart = 0; blockStart < n; blockStart += BLOCK) {
+            int blockEnd = Math.min(n, blockStart + BLOCK);
+            LevelTask task = new LevelTask(m, blockStart, blockStart, blockEnd);
+            if (pool != null && blockStart > 0 && pool.getParallelism() > 1) {
+                pool.invoke(task);
+            } else {
+                task.compute();
+            }
+            for (int p = blockStart; p < blockEnd; p++) {
+                int front = level[p];
+                for (int q = blockStart; q < p; q++) {
+                    front = Math.max(front, dominance(sorted, q * m, p * m, m) * (level[q] + 1));
+                }
+                level[p] = front;
+                frontCount = Math.max(frontCount, front + 1);
+            }
+        }
+
+        // Counting sort by front, keeping the lexicographic order within each front
+        Arrays.fill(frontStarts, 0, frontCount + 1, 0);
+        for (int p = 0; p < n; p++) {
+            frontStarts[level[p] + 1]++;
+        }
+        for (int f = 0; f < frontCount; f++) {
+            frontStarts[f + 1] += frontStarts[f];
+        }
+        for (int p = 0; p < n; p++) {
+            int row = rows[p];
+            rank[row] = level[p];
+            order[frontStarts[level[p]]++] = row;
+        }
+        for (int f = frontCount; f > 0; f--) {
+            frontStarts[f] = frontStarts[f - 1];
+        }
+        frontStarts[0] = 0;
+    }
+
+    public int getFrontCount() {
+        return frontCount;
+    }
+
+    /**
+     * Returns the position in getOrder where front f starts; the front ends where front f + 1 starts.
+     */
+    public int getFrontStart(int front) {
+        return frontStarts[front];
+    }
+
+    public int getFrontEnd(int front) {
+        return frontStarts[front + 1];
+    }
+
+    /**
+     * Returns the rows ordered by front. The array is reused by the next call to sort.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the front of a row, 0 for non-dominated rows.
+     */
+    public int getRank(int row) {
+        return rank[row];
+    }
+
+    /**
+     * Sets distance[row] to the crowding distance of every row in rows[from, to), one front.
+     * Rows at either end of any objective get positive infinity. Reorders rows[from, to).
+     */
+    public static void crowdingDistance(double[] objectives, int m, int[] rows, int from, int to, double[] distance) {
+        for (int i = from; i < to; i++) {
+            distance[rows[i]] = 0.0;
+        }
+        if (to - from <= 2) {
+            for (int i = from; i < to; i++) {
+                distance[rows[i]] = Double.POSITIVE_INFINITY;
+            }
+            return;
+        }
+        for (int k = 0; k < m; k++) {
+            sortRows(rows, from, to - 1, objectives, m, k, 1, false);
+            double min = objectives[rows[from] * m + k];
+            double max = objectives[rows[to - 1] * m + k];
+            distance[rows[from]] = Double.POSITIVE_INFINITY;
+            distance[rows[to - 1]] = Double.POSITIVE_INFINITY;
+            if (max == min) {
+                continue;
+            }
+            double range = max - min;
+            for (int i = from + 1; i < to - 1; i++) {
+                distance[rows[i]] += (objectives[rows[i + 1] * m + k] - objectives[rows[i - 1] * m + k]) / range;
+            }
+        }
+    }
+
+    /**
+     * Orders rows[from, to) by decreasing crowding distance.
+     */
+    public static void sortByCrowding(int[] rows, int from, int to, double[] distance) {
+        sortRows(rows, from, to - 1, distance, 1, 0, 1, true);
+    }
+
+    // Quicksort of rows by values[row * stride + offset, + keys) compared lexicographically, with
+    // median-of-three pivots and insertion sort for short ranges
+    private static void sortRows(int[] rows, int lo, int hi, double[] values, int stride, int offset, int keys,
+                                 boolean descending) {
+        while (hi - lo > 16) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(values, stride, offset, keys, rows[mid], rows[lo], descending) < 0) {
+                swap(rows, lo, mid);
+            }
+            if (compare(values, stride, offset, keys, rows[hi], rows[lo], descending) < 0) {
+                swap(rows, lo, hi);
+            }
+            if (compare(values, stride, offset, keys, rows[hi], rows[mid], descending) < 0) {
+                swap(rows, mid, hi);
+            }
+            int pivot = rows[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (compare(values, stride, offset, keys, rows[i], pivot, descending) < 0) {
+                    i++;
+                }
+                while (compare(values, stride, offset, keys, pivot, rows[j], descending) < 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(rows, i++, j--);
+                }
+            }
+            // Recurse into the smaller half to bound the stack depth
+            if (j - lo < hi - i) {
+                sortRows(rows, lo, j, values, stride, offset, keys, descending);
+                lo = i;
+            } else {
+                sortRows(rows, i, hi, values, stride, offset, keys, descending);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            int row = rows[i];
+            int j = i - 1;
+            while (j >= lo && compare(values, stride, offset, keys, row, rows[j], descending) < 0) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+    }
+
+    private static int compare(double[] values, int stride, int offset, int keys, int a, int b, boolean descending) {
+        int aBase = a * stride + offset;
+        int bBase = b * stride + offset;
+        for (int k = 0; k < keys; k++) {
+            int c = Double.compare(values[aBase + k], values[bBase + k]);
+            if (c != 0) {
+                return descending ? -c : c;
+            }
+        }
+        return 0;
+    }
+
+    // 1 if row a dominates row b, else 0; branch-free, since on scattered fronts the outcome of each
+    // comparison is close to random and an early exit costs more in mispredictions than it saves
+    private static int dominance(double[] values, int a, int b, int m) {
+        boolean worse = false;
+        boolean better = false;
+        for (int k = 0; k < m; k++) {
+            double x = values[a + k];
+            double y = values[b + k];
+            worse |= x < y;
+            better |= x > y;
+        }
+        return better & !worse ? 1 : 0;
+    }
+
+    private static void swap(int[] rows, int i, int j) {
+        int tmp = rows[i];
+        rows[i] = rows[j];
+        rows[j] = tmp;
+    }
+
+    // Sets level[p], for positions from..to, to one more than the highest level of the positions before
+    // limit that dominate it, or 0
+    private class LevelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int m;
+        private final int limit;
+        private final int from;
+        private final int to;
+
+        LevelTask(int m, int limit, int from, int to) {
+            this.m = m;
+            this.limit = limit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int chunk = Math.max(MIN_CHUNK, (to - from) / (pool != null ? pool.getParallelism() * 4 : 1));
+            if (to - from > chunk && pool != null && getPool() == pool) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LevelTask(m, limit, from, mid), new LevelTask(m, limit, mid, to));
+                return;
+            }
+            double[] values = sorted;
+            for (int p = from; p < to; p++) {
+                int front = 0;
+                for (int q = 0; q < limit; q++) {
+                    front = Math.max(front, dominance(values, q * m, p * m, m) * (level[q] + 1));
+                }
+                level[p] = front;
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package genetic.multiobjective;
+
+import genetic.chromosome.Chromosome;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The non-dominated solutions seen during a run. A candidate is admitted only if no member dominates or
+ * equals its objectives, and it evicts every member it dominates. When the archive grows past its capacity
+ * the member with the smallest crowding distance is dropped, which keeps the extremes of the front and
+ * thins out its densest regions. Members are copies and are not changed by the run.
+ */
+public class ParetoArchive {
+    private final int objectiveCount;
+    private final int capacity;
+    private final List<Chromosome> chromosomes = new ArrayList<>();
+    private double[] objectives = new double[0];
+    private int[] rows = new int[0];
+    private double[] distance = new double[0];
+
+    public ParetoArchive(int objectiveCount, int capacity) {
+        if (objectiveCount < 1 || capacity < 1) {
+            throw new IllegalArgumentException("An archive needs at least one objective and a positive capacity");
+        }
+        this.objectiveCount = objectiveCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Offers a solution whose objective values are values[offset, offset + getObjectiveCount()).
+     * The chromosome is copied if it is admitted.
+     *
+     * @return true if the solution was admitted
+     */
+    public boolean add(Chromosome chromosome, double[] values, int offset) {
+        int m = objectiveCount;
+        int size = chromosomes.size();
+        for (int i = 0; i < size; i++) {
+            if (NonDominatedSorting.dominates(objectives, i * m, values, offset, m)
+                    || Arrays.equals(objectives, i * m, i * m + m, values, offset, offset + m)) {
+                return false;
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!NonDominatedSorting.dominates(values, offset, objectives, i * m, m)) {
+                move(i, kept++);
+            }
+        }
+        chromosomes.subList(kept, size).clear();
+        if ((kept + 1) * m > objectives.length) {
+            objectives = Arrays.copyOf(objectives, Math.max((kept + 1) * m, objectives.length * 2));
+        }
+        System.arraycopy(values, offset, objectives, kept * m, m);
+        chromosomes.add(chromosome.copy());
+        if (chromosomes.size() > capacity) {
+            removeMostCrowded();
+        }
+        return true;
+    }
+
+    public int getObjectiveCount() {
+        return objectiveCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return chromosomes.size();
+    }
+
+    public Chromosome getChromosome(int index) {
+        return chromosomes.get(index);
+    }
+
+    public double getObjective(int index, int objective) {
+        return objectives[index * objectiveCount + objective];
+    }
+
+    public double[] getObjectives(int index) {
+        return Arrays.copyOfRange(objectives, index * objectiveCount, (index + 1) * objectiveCount);
+    }
+
+    private void move(int from, int to) {
+        if (from != to) {
+            chromosomes.set(to, chromosomes.get(from));
+            System.arraycopy(objectives, from * objectiveCount, objectives, to * objectiveCount, objectiveCount);
+        }
+    }
+
+    private void removeMostCrowded() {
+        int size = chromosomes.size();
+        if (rows.length < size) {
+            rows = new int[size * 2];
+            distance = new double[size * 2];
+        }
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        NonDominatedSorting.crowdingDistance(objectives, objectiveCount, rows, 0, size, distance);
+        int victim = 0;
+        for (int i = 1; i < size; i++) {
+            if (distance[i] < distance[victim]) {
+                victim = i;
+            }
+        }
+        move(size - 1, victim);
+        chromosomes.remove(size - 1);
+    }
+}
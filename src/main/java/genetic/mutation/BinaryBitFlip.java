@@ -1,27 +1,27 @@
 package genetic.mutation;
 
 import genetic.chromosome.BinaryChromosome;
-import genetic.chromosome.Chromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
-public class BinaryBitFlip implements MutationOperator {
+public class BinaryBitFlip implements MutationOperator<BinaryChromosome> {
     private double mutationRate;
-    private Random random = new Random();
 
     public BinaryBitFlip(double mutationRate) {
         this.mutationRate = mutationRate;
     }
 
     @Override
-    public void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations) {
-        if (chromosome instanceof BinaryChromosome) {
-            BinaryChromosome binChrom = (BinaryChromosome) chromosome;
-            boolean[] genes = binChrom.getGenes();
-            for (int i = 0; i < genes.length; i++) {
-                if (random.nextDouble() < mutationRate) {
-                    genes[i] = !genes[i];
-                }
+    public void mutate(BinaryChromosome chromosome, int currentGeneration, int maxGenerations) {
+        Rng random = Rng.current();
+        for (int i = 0; i < chromosome.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                chromosome.setGene(i, !chromosome.getGene(i));
             }
         }
     }
+
+    @Override
+    public Class<BinaryChromosome> getChromosomeType() {
+        return BinaryChromosome.class;
+    }
 }
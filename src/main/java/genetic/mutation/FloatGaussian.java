@@ -1,13 +1,11 @@
 package genetic.mutation;
 
-import genetic.chromosome.Chromosome;
 import genetic.chromosome.FloatChromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
-public class FloatGaussian implements MutationOperator {
+public class FloatGaussian implements MutationOperator<FloatChromosome> {
     private double mutationRate;
     private double stdDev;
-    private Random random = new Random();
 
     public FloatGaussian(double mutationRate, double stdDev) {
         this.mutationRate = mutationRate;
@@ -15,22 +13,23 @@ public class FloatGaussian implements MutationOperator {
     }
 
     @Override
-    public void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations) {
-        if (chromosome instanceof FloatChromosome) {
-            FloatChromosome floatChrom = (FloatChromosome) chromosome;
-            double[] genes = floatChrom.getGenes();
-            double minValue = floatChrom.getMinValue();
-            double maxValue = floatChrom.getMaxValue();
-            for (int i = 0; i < genes.length; i++) {
-                if (random.nextDouble() < mutationRate) {
-                    // Time-varying mutation: mutation size shrinks over generations
-                    double t = (double) currentGeneration / maxGenerations;
-                    double delta = (1 - t) * (maxValue - minValue) * random.nextGaussian() * stdDev;
-                    genes[i] += delta;
-                    // Clamp to bounds
-                    genes[i] = Math.max(minValue, Math.min(maxValue, genes[i]));
-                }
+    public void mutate(FloatChromosome chromosome, int currentGeneration, int maxGenerations) {
+        Rng random = Rng.current();
+        double minValue = chromosome.getMinValue();
+        double maxValue = chromosome.getMaxValue();
+        for (int i = 0; i < chromosome.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                // Time-varying mutation: mutation size shrinks over generations
+                double t = (double) currentGeneration / maxGenerations;
+                double delta = (1 - t) * (maxValue - minValue) * random.nextGaussian() * stdDev;
+                // Clamp to bounds
+                chromosome.setGene(i, Math.max(minValue, Math.min(maxValue, chromosome.getGene(i) + delta)));
             }
         }
     }
+
+    @Override
+    public Class<FloatChromosome> getChromosomeType() {
+        return FloatChromosome.class;
+    }
 }
@@ -1,29 +1,29 @@
 package genetic.mutation;
 
-import genetic.chromosome.Chromosome;
 import genetic.chromosome.FloatChromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
-public class FloatUniformMutation implements MutationOperator {
+public class FloatUniformMutation implements MutationOperator<FloatChromosome> {
     private double mutationRate;
-    private Random random = new Random();
 
     public FloatUniformMutation(double mutationRate) {
         this.mutationRate = mutationRate;
     }
 
     @Override
-    public void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations) {
-        if (chromosome instanceof FloatChromosome) {
-            FloatChromosome floatChrom = (FloatChromosome) chromosome;
-            double[] genes = floatChrom.getGenes();
-            double minValue = floatChrom.getMinValue();
-            double maxValue = floatChrom.getMaxValue();
-            for (int i = 0; i < genes.length; i++) {
-                if (random.nextDouble() < mutationRate) {
-                    genes[i] = minValue + (maxValue - minValue) * random.nextDouble();
-                }
+    public void mutate(FloatChromosome chromosome, int currentGeneration, int maxGenerations) {
+        Rng random = Rng.current();
+        double minValue = chromosome.getMinValue();
+        double maxValue = chromosome.getMaxValue();
+        for (int i = 0; i < chromosome.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                chromosome.setGene(i, minValue + (maxValue - minValue) * random.nextDouble());
             }
         }
     }
+
+    @Override
+    public Class<FloatChromosome> getChromosomeType() {
+        return FloatChromosome.class;
+    }
 }
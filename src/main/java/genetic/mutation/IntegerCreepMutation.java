@@ -1,13 +1,11 @@
 package genetic.mutation;
 
-import genetic.chromosome.Chromosome;
 import genetic.chromosome.IntegerChromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
-public class IntegerCreepMutation implements MutationOperator {
+public class IntegerCreepMutation implements MutationOperator<IntegerChromosome> {
     private double mutationRate;
     private int creepRange;
-    private Random random = new Random();
 
     public IntegerCreepMutation(double mutationRate, int creepRange) {
         this.mutationRate = mutationRate;
@@ -15,19 +13,20 @@ public class IntegerCreepMutation implements MutationOperator {
     }
 
     @Override
-    public void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations) {
-        if (chromosome instanceof IntegerChromosome) {
-            IntegerChromosome intChrom = (IntegerChromosome) chromosome;
-            int[] genes = intChrom.getGenes();
-            int minValue = intChrom.getMinValue();
-            int maxValue = intChrom.getMaxValue();
-            for (int i = 0; i < genes.length; i++) {
-                if (random.nextDouble() < mutationRate) {
-                    int delta = random.nextInt(2 * creepRange + 1) - creepRange;
-                    genes[i] += delta;
-                    genes[i] = Math.max(minValue, Math.min(maxValue, genes[i]));
-                }
+    public void mutate(IntegerChromosome chromosome, int currentGeneration, int maxGenerations) {
+        Rng random = Rng.current();
+        int minValue = chromosome.getMinValue();
+        int maxValue = chromosome.getMaxValue();
+        for (int i = 0; i < chromosome.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                int delta = random.nextInt(2 * creepRange + 1) - creepRange;
+                chromosome.setGene(i, Math.max(minValue, Math.min(maxValue, chromosome.getGene(i) + delta)));
             }
         }
     }
+
+    @Override
+    public Class<IntegerChromosome> getChromosomeType() {
+        return IntegerChromosome.class;
+    }
 }
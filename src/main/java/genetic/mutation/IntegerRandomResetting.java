@@ -1,29 +1,29 @@
 package genetic.mutation;
 
-import genetic.chromosome.Chromosome;
 import genetic.chromosome.IntegerChromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
-public class IntegerRandomResetting implements MutationOperator {
+public class IntegerRandomResetting implements MutationOperator<IntegerChromosome> {
     private double mutationRate;
-    private Random random = new Random();
 
     public IntegerRandomResetting(double mutationRate) {
         this.mutationRate = mutationRate;
     }
 
     @Override
-    public void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations) {
-        if (chromosome instanceof IntegerChromosome) {
-            IntegerChromosome intChrom = (IntegerChromosome) chromosome;
-            int[] genes = intChrom.getGenes();
-            int minValue = intChrom.getMinValue();
-            int maxValue = intChrom.getMaxValue();
-            for (int i = 0; i < genes.length; i++) {
-                if (random.nextDouble() < mutationRate) {
-                    genes[i] = random.nextInt(maxValue - minValue + 1) + minValue;
-                }
+    public void mutate(IntegerChromosome chromosome, int currentGeneration, int maxGenerations) {
+        Rng random = Rng.current();
+        int minValue = chromosome.getMinValue();
+        int maxValue = chromosome.getMaxValue();
+        for (int i = 0; i < chromosome.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                chromosome.setGene(i, random.nextInt(maxValue - minValue + 1) + minValue);
             }
         }
     }
+
+    @Override
+    public Class<IntegerChromosome> getChromosomeType() {
+        return IntegerChromosome.class;
+    }
 }
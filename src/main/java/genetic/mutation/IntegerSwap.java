@@ -1,30 +1,31 @@
 package genetic.mutation;
 
-import genetic.chromosome.Chromosome;
 import genetic.chromosome.IntegerChromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
-public class IntegerSwap implements MutationOperator {
+public class IntegerSwap implements MutationOperator<IntegerChromosome> {
     private double mutationRate;
-    private Random random = new Random();
 
     public IntegerSwap(double mutationRate) {
         this.mutationRate = mutationRate;
     }
 
     @Override
-    public void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations) {
-        if (chromosome instanceof IntegerChromosome) {
-            IntegerChromosome intChrom = (IntegerChromosome) chromosome;
-            int[] genes = intChrom.getGenes();
-            for (int i = 0; i < genes.length; i++) {
-                if (random.nextDouble() < mutationRate) {
-                    int j = random.nextInt(genes.length);
-                    int temp = genes[i];
-                    genes[i] = genes[j];
-                    genes[j] = temp;
-                }
+    public void mutate(IntegerChromosome chromosome, int currentGeneration, int maxGenerations) {
+        Rng random = Rng.current();
+        int length = chromosome.getLength();
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < mutationRate) {
+                int j = random.nextInt(length);
+                int temp = chromosome.getGene(i);
+                chromosome.setGene(i, chromosome.getGene(j));
+                chromosome.setGene(j, temp);
             }
         }
     }
+
+    @Override
+    public Class<IntegerChromosome> getChromosomeType() {
+        return IntegerChromosome.class;
+    }
 }
@@ -2,6 +2,30 @@ package genetic.mutation;
 
 import genetic.chromosome.Chromosome;
 
-public interface MutationOperator {
-    void mutate(Chromosome chromosome, int currentGeneration, int maxGenerations);
+/**
+ * Mutates chromosomes of the encoding C in place.
+ */
+public interface MutationOperator<C extends Chromosome> {
+    void mutate(C chromosome, int currentGeneration, int maxGenerations);
+
+    /**
+     * Returns the chromosome class this operator works on.
+     */
+    Class<C> getChromosomeType();
+
+    /**
+     * Checks once, at configuration time, that the operator accepts chromosomes like the prototype
+     * and returns it typed for use on that population.
+     *
+     * @throws IllegalArgumentException if the operator targets a different encoding
+     */
+    @SuppressWarnings("unchecked")
+    static MutationOperator<Chromosome> forPrototype(MutationOperator<?> operator, Chromosome prototype) {
+        if (!operator.getChromosomeType().isInstance(prototype)) {
+            throw new IllegalArgumentException(operator.getClass().getSimpleName() + " works on "
+                    + operator.getChromosomeType().getSimpleName() + ", not on "
+                    + prototype.getClass().getSimpleName());
+        }
+        return (MutationOperator<Chromosome>) operator;
+    }
 }
@@ -0,0 +1,61 @@
+package genetic.mutation;
+
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.random.Rng;
+
+/**
+ * Bit-flip mutation for PackedBinaryChromosome.
+ * Jumps straight to the next flipped bit with geometrically distributed gaps,
+ * collects the flips of each word into a mask and applies it with a single xor.
+ */
+public class PackedBinaryBitFlip implements MutationOperator<PackedBinaryChromosome> {
+    private double mutationRate;
+
+    public PackedBinaryBitFlip(double mutationRate) {
+        this.mutationRate = mutationRate;
+    }
+
+    @Override
+    public void mutate(PackedBinaryChromosome chromosome, int currentGeneration, int maxGenerations) {
+        if (mutationRate <= 0) {
+            return;
+        }
+        if (mutationRate >= 1) {
+            for (int w = 0; w < chromosome.getWordCount(); w++) {
+                chromosome.flipBits(w, -1L);
+            }
+            return;
+        }
+
+        Rng random = Rng.current();
+        int length = chromosome.getLength();
+        double logKeep = Math.log(1 - mutationRate);
+        int word = 0;
+        long mask = 0;
+        long i = nextGap(random, logKeep);
+        while (i < length) {
+            int w = (int) (i >>> 6);
+            if (w != word) {
+                if (mask != 0) {
+                    chromosome.flipBits(word, mask);
+                }
+                word = w;
+                mask = 0;
+            }
+            mask |= 1L << i;
+            i += 1 + nextGap(random, logKeep);
+        }
+        if (mask != 0) {
+            chromosome.flipBits(word, mask);
+        }
+    }
+
+    @Override
+    public Class<PackedBinaryChromosome> getChromosomeType() {
+        return PackedBinaryChromosome.class;
+    }
+
+    private static long nextGap(Rng random, double logKeep) {
+        return Math.min(Integer.MAX_VALUE, (long) (Math.log(1 - random.nextDouble()) / logKeep));
+    }
+}
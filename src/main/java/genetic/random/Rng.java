@@ -0,0 +1,135 @@
+package genetic.random;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central random number source of the library: a SplitMix64 generator (the algorithm behind
+ * java.util.SplittableRandom) with the Random-style methods the operators need, including nextGaussian.
+ *
+ * Operators and chromosomes draw from {@link #current()}, a per-thread stream, so no instance owns
+ * its own generator and threads never contend. For reproducible runs, bind a seeded stream to each
+ * worker thread with {@link #setCurrent(Rng)}, deriving per-thread or per-island streams from one
+ * master seed with {@link #stream(long, int)}.
+ *
+ * Instances are not thread-safe; share them only through split or stream.
+ */
+public final class Rng {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    public static final int STATE_BYTES = Long.BYTES + Double.BYTES + 1;
+    private static final AtomicLong SEEDER = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+    // Mixed like stream(): raw seeds GOLDEN_GAMMA apart would make each thread's stream a shifted copy of the last
+    private static final ThreadLocal<Rng> CURRENT = ThreadLocal.withInitial(() -> new Rng(mix64(SEEDER.getAndAdd(GOLDEN_GAMMA))));
+
+    private long seed;
+    private double nextGaussian;
+    private boolean haveNextGaussian;
+
+    public Rng(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the calling thread's stream, creating an unseeded one on first use.
+     */
+    public static Rng current() {
+        return CURRENT.get();
+    }
+
+    public static void setCurrent(Rng rng) {
+        CURRENT.set(rng);
+    }
+
+    /**
+     * Returns stream number index of the family derived from masterSeed; the same arguments always
+     * give the same sequence and different indices give statistically independent ones.
+     */
+    public static Rng stream(long masterSeed, int index) {
+        return new Rng(mix64(mix64(masterSeed) + GOLDEN_GAMMA * (index + 1L)));
+    }
+
+    /**
+     * Returns a new, independent generator and advances this one.
+     */
+    public Rng split() {
+        return new Rng(mix64(nextLong()));
+    }
+
+    public long nextLong() {
+        return mix64(seed += GOLDEN_GAMMA);
+    }
+
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns a uniformly distributed int in [0, bound).
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = nextInt() >>> 1;
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = nextInt() >>> 1) {
+            // reject values from the incomplete last interval
+        }
+        return r;
+    }
+
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Returns a standard normal value using the Marsaglia polar method.
+     */
+    public double nextGaussian() {
+        if (haveNextGaussian) {
+            haveNextGaussian = false;
+            return nextGaussian;
+        }
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextGaussian = v2 * multiplier;
+        haveNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    /**
+     * Writes the complete generator state (STATE_BYTES bytes), so readState can continue the exact sequence.
+     */
+    public void writeState(ByteBuffer buffer) {
+        buffer.putLong(seed);
+        buffer.putDouble(nextGaussian);
+        buffer.put((byte) (haveNextGaussian ? 1 : 0));
+    }
+
+    public static Rng readState(ByteBuffer buffer) {
+        Rng rng = new Rng(buffer.getLong());
+        rng.nextGaussian = buffer.getDouble();
+        rng.haveNextGaussian = buffer.get() != 0;
+        return rng;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
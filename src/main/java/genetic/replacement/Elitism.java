@@ -2,29 +2,152 @@ package genetic.replacement;
 
 import genetic.Population;
 import genetic.chromosome.Chromosome;
+import genetic.soa.GeneMatrix;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
+/**
+ * Keeps the eliteSize fittest chromosomes of the current population in place of the eliteSize least fit
+ * offspring. Elites are found by partial selection over fitness indices in O(n), without sorting or
+ * copying chromosomes; the resulting population is not ordered by fitness.
+ */
 public class Elitism implements ReplacementStrategy {
     private int eliteSize;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private Consumer<Chromosome> releaseHook;
+    // Scratch arrays reused across generations
+    private double[] currentFitness;
+    private double[] offspringFitness;
+    private int[] currentOrder;
+    private int[] offspringOrder;
+    private boolean[] kept;
 
     public Elitism(int eliteSize) {
         this.eliteSize = eliteSize;
+        this.pool = null;
+        this.chunkSize = Integer.MAX_VALUE;
     }
 
+    /**
+     * Selects in parallel on pool, in chunks of chunkSize chromosomes, for populations larger than chunkSize.
+     */
+    public Elitism(int eliteSize, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.eliteSize = eliteSize;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    // Same exchange as replaceInto, so both give the same population in the same order;
+    // offspring beyond the size of the current population are dropped
     @Override
     public Population replace(Population currentPopulation, List<Chromosome> offspring) {
-        List<Chromosome> current = new ArrayList<>(currentPopulation.getChromosomes());
-        current.sort((a, b) -> Double.compare(b.getFitness(), a.getFitness())); // descending
-        List<Chromosome> elites = current.subList(0, Math.min(eliteSize, current.size()));
+        List<Chromosome> current = currentPopulation.getChromosomes();
+        int size = Math.min(current.size(), offspring.size());
+        int count = Math.min(eliteSize, size);
 
-        List<Chromosome> offspringSorted = new ArrayList<>(offspring);
-        offspringSorted.sort((a, b) -> Double.compare(b.getFitness(), a.getFitness())); // descending
-        int remaining = currentPopulation.getSize() - elites.size();
-        List<Chromosome> bestOffspring = offspringSorted.subList(0, Math.min(remaining, offspringSorted.size()));
+        currentFitness = currentPopulation.getFitnessValues(currentFitness);
+        currentOrder = select(currentFitness, current.size(), count, true, currentOrder);
+        offspringFitness = fitnessValues(offspring, offspringFitness);
+        offspringOrder = select(offspringFitness, size, count, false, offspringOrder);
 
-        List<Chromosome> newPop = new ArrayList<>(elites);
-        newPop.addAll(bestOffspring);
+        List<Chromosome> newPop = new ArrayList<>(offspring.subList(0, size));
+        for (int i = 0; i < count; i++) {
+            Chromosome dropped = newPop.set(offspringOrder[i], current.get(currentOrder[i]));
+            if (releaseHook != null) {
+                releaseHook.accept(dropped);
+            }
+        }
+        if (releaseHook != null) {
+            releaseUnselected(current, currentOrder, count);
+            offspring.subList(size, offspring.size()).forEach(releaseHook);
+        }
         return new Population(newPop, currentPopulation.getFitnessFunction());
     }
+
+    @Override
+    public void setReleaseHook(Consumer<Chromosome> releaseHook) {
+        this.releaseHook = releaseHook;
+    }
+
+    // Hands every chromosome whose index is not among the first count of order to the release hook
+    private void releaseUnselected(List<Chromosome> chromosomes, int[] order, int count) {
+        if (kept == null || kept.length < chromosomes.size()) {
+            kept = new boolean[chromosomes.size()];
+        }
+        for (int i = 0; i < count; i++) {
+            kept[order[i]] = true;
+        }
+        for (int i = 0; i < chromosomes.size(); i++) {
+            if (kept[i]) {
+                kept[i] = false;
+            } else {
+                releaseHook.accept(chromosomes.get(i));
+            }
+        }
+    }
+
+    // Elites trade places with the least fit offspring; the current population becomes scratch space,
+    // so swapping the references is enough and no genes are copied
+    @Override
+    public Population replaceInto(Population currentPopulation, Population offspring) {
+        List<Chromosome> slots = currentPopulation.getChromosomes();
+        List<Chromosome> children = offspring.getChromosomes();
+        int count = Math.min(eliteSize, Math.min(slots.size(), children.size()));
+
+        currentFitness = currentPopulation.getFitnessValues(currentFitness);
+        currentOrder = select(currentFitness, slots.size(), count, true, currentOrder);
+        offspringFitness = offspring.getFitnessValues(offspringFitness);
+        offspringOrder = select(offspringFitness, children.size(), count, false, offspringOrder);
+
+        for (int i = 0; i < count; i++) {
+            Chromosome elite = slots.get(currentOrder[i]);
+            slots.set(currentOrder[i], children.get(offspringOrder[i]));
+            children.set(offspringOrder[i], elite);
+        }
+        return offspring;
+    }
+
+    // Elite rows are copied over the least fit offspring rows, which then hold the next generation
+    @Override
+    public GeneMatrix replaceRows(GeneMatrix current, GeneMatrix offspring) {
+        int count = Math.min(eliteSize, Math.min(current.getRows(), offspring.getRows()));
+        currentOrder = select(current.getFitness(), current.getRows(), count, true, currentOrder);
+        offspringOrder = select(offspring.getFitness(), offspring.getRows(), count, false, offspringOrder);
+        for (int i = 0; i < count; i++) {
+            current.copyRow(currentOrder[i], offspring, offspringOrder[i]);
+        }
+        return offspring;
+    }
+
+    // Returns order with its first count entries set to the indices of the count most (best) or least fit values
+    private int[] select(double[] fitness, int n, int count, boolean best, int[] order) {
+        if (order == null || order.length < n) {
+            order = new int[n];
+        }
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (pool != null && n > chunkSize) {
+            FitnessSelection.selectParallel(fitness, order, n, count, best, pool, chunkSize);
+        } else {
+            FitnessSelection.select(fitness, order, 0, n, count, best);
+        }
+        return order;
+    }
+
+    private static double[] fitnessValues(List<Chromosome> chromosomes, double[] buffer) {
+        if (buffer == null || buffer.length < chromosomes.size()) {
+            buffer = new double[chromosomes.size()];
+        }
+        for (int i = 0; i < chromosomes.size(); i++) {
+            buffer[i] = chromosomes.get(i).getFitness();
+        }
+        return buffer;
+    }
 }
@@ -0,0 +1,166 @@
+package genetic.replacement;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Partial selection of the k most or least fit entries of a fitness array, working on an index array
+ * so no chromosome is moved. Quickselect with median-of-three pivots runs in O(n) expected time; if
+ * partitioning degenerates (for example on many equal values) the rest is finished with a bounded heap,
+ * which caps the worst case at O(n log k).
+ */
+final class FitnessSelection {
+    private FitnessSelection() {
+    }
+
+    /**
+     * Rearranges indices[from, to) so that its first k entries refer to the k highest (best = true) or
+     * lowest fitness values of the range, in no particular order.
+     */
+    static void select(double[] fitness, int[] indices, int from, int to, int k, boolean best) {
+        if (k <= 0 || k >= to - from) {
+            return;
+        }
+        int target = from + k;
+        int lo = from;
+        int hi = to - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (lo < hi) {
+            if (depth-- == 0) {
+                heapSelect(fitness, indices, lo, hi + 1, target - lo, best);
+                return;
+            }
+            int p = partition(fitness, indices, lo, hi, best);
+            if (p == target || p == target - 1) {
+                return;
+            } else if (p < target) {
+                lo = p + 1;
+            } else {
+                hi = p - 1;
+            }
+        }
+    }
+
+    /**
+     * Like select over indices[0, n), splitting the range into chunks that are reduced to their own k
+     * extremes in parallel before a final sequential select over the survivors.
+     * Only indices[0, k) is meaningful afterwards.
+     */
+    static void selectParallel(double[] fitness, int[] indices, int n, int k, boolean best,
+                               ForkJoinPool pool, int chunkSize) {
+        if (k <= 0 || k >= n) {
+            return;
+        }
+        int chunks = (n + chunkSize - 1) / chunkSize;
+        pool.invoke(new ChunkTask(fitness, indices, n, k, best, chunkSize, 0, chunks));
+        int survivors = 0;
+        for (int c = 0; c < chunks; c++) {
+            int start = c * chunkSize;
+            int kept = Math.min(k, Math.min(n, start + chunkSize) - start);
+            System.arraycopy(indices, start, indices, survivors, kept);
+            survivors += kept;
+        }
+        select(fitness, indices, 0, survivors, k, best);
+    }
+
+    // Lomuto partition around the median of lo, mid and hi; returns the pivot's final position, with
+    // every entry before it strictly more extreme than the pivot
+    private static int partition(double[] fitness, int[] indices, int lo, int hi, boolean best) {
+        int mid = (lo + hi) >>> 1;
+        if (isBefore(fitness[indices[mid]], fitness[indices[lo]], best)) {
+            swap(indices, lo, mid);
+        }
+        if (isBefore(fitness[indices[hi]], fitness[indices[lo]], best)) {
+            swap(indices, lo, hi);
+        }
+        if (isBefore(fitness[indices[mid]], fitness[indices[hi]], best)) {
+            swap(indices, mid, hi);
+        }
+        double pivot = fitness[indices[hi]];
+        int store = lo;
+        for (int i = lo; i < hi; i++) {
+            if (isBefore(fitness[indices[i]], pivot, best)) {
+                swap(indices, i, store++);
+            }
+        }
+        swap(indices, store, hi);
+        return store;
+    }
+
+    // Keeps the k most extreme entries of indices[from, to) in a heap at its front whose root is the
+    // least extreme of them
+    private static void heapSelect(double[] fitness, int[] indices, int from, int to, int k, boolean best) {
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(fitness, indices, from, i, k, best);
+        }
+        for (int i = from + k; i < to; i++) {
+            if (isBefore(fitness[indices[i]], fitness[indices[from]], best)) {
+                swap(indices, i, from);
+                siftDown(fitness, indices, from, 0, k, best);
+            }
+        }
+    }
+
+    private static void siftDown(double[] fitness, int[] indices, int base, int node, int size, boolean best) {
+        while (true) {
+            int child = 2 * node + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && isBefore(fitness[indices[base + child]], fitness[indices[base + child + 1]], best)) {
+                child++;
+            }
+            if (!isBefore(fitness[indices[base + node]], fitness[indices[base + child]], best)) {
+                return;
+            }
+            swap(indices, base + node, base + child);
+            node = child;
+        }
+    }
+
+    private static boolean isBefore(double a, double b, boolean descending) {
+        return descending ? a > b : a < b;
+    }
+
+    private static void swap(int[] indices, int i, int j) {
+        int tmp = indices[i];
+        indices[i] = indices[j];
+        indices[j] = tmp;
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] fitness;
+        private final int[] indices;
+        private final int n;
+        private final int k;
+        private final boolean best;
+        private final int chunkSize;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkTask(double[] fitness, int[] indices, int n, int k, boolean best, int chunkSize, int fromChunk, int toChunk) {
+            this.fitness = fitness;
+            this.indices = indices;
+            this.n = n;
+            this.k = k;
+            this.best = best;
+            this.chunkSize = chunkSize;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int start = fromChunk * chunkSize;
+                select(fitness, indices, start, Math.min(n, start + chunkSize), k, best);
+                return;
+            }
+            int mid = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkTask(fitness, indices, n, k, best, chunkSize, fromChunk, mid),
+                    new ChunkTask(fitness, indices, n, k, best, chunkSize, mid, toChunk));
+        }
+    }
+}
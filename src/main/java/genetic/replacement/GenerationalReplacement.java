@@ -2,11 +2,33 @@ package genetic.replacement;
 
 import genetic.Population;
 import genetic.chromosome.Chromosome;
+import genetic.soa.GeneMatrix;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class GenerationalReplacement implements ReplacementStrategy {
+    private Consumer<Chromosome> releaseHook;
+
     @Override
     public Population replace(Population currentPopulation, List<Chromosome> offspring) {
+        if (releaseHook != null) {
+            currentPopulation.getChromosomes().forEach(releaseHook);
+        }
         return new Population(offspring, currentPopulation.getFitnessFunction());
     }
+
+    @Override
+    public void setReleaseHook(Consumer<Chromosome> releaseHook) {
+        this.releaseHook = releaseHook;
+    }
+
+    @Override
+    public Population replaceInto(Population currentPopulation, Population offspring) {
+        return offspring;
+    }
+
+    @Override
+    public GeneMatrix replaceRows(GeneMatrix current, GeneMatrix offspring) {
+        return offspring;
+    }
 }
@@ -2,8 +2,44 @@ package genetic.replacement;
 
 import genetic.Population;
 import genetic.chromosome.Chromosome;
+import genetic.soa.GeneMatrix;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReplacementStrategy {
     Population replace(Population currentPopulation, List<Chromosome> offspring);
+
+    /**
+     * Sets a callback that replace hands every chromosome it drops, from the current population or the
+     * offspring, so the caller can recycle it. Null disables the callback. The default ignores it.
+     */
+    default void setReleaseHook(Consumer<Chromosome> releaseHook) {
+    }
+
+    /**
+     * Allocation-free counterpart of replace for double-buffered engines. Builds the next generation
+     * by overwriting chromosomes of current and/or offspring (which must hold evaluated children)
+     * and returns whichever of the two now holds it; the other becomes free scratch space.
+     * The default falls back to replace and copies the survivors into current.
+     */
+    default Population replaceInto(Population currentPopulation, Population offspring) {
+        Population next = replace(currentPopulation, offspring.getChromosomes());
+        List<Chromosome> survivors = new ArrayList<>(next.getSize());
+        for (Chromosome chrom : next.getChromosomes()) {
+            survivors.add(chrom.copy());
+        }
+        List<Chromosome> slots = currentPopulation.getChromosomes();
+        for (int i = 0; i < slots.size() && i < survivors.size(); i++) {
+            slots.get(i).copyFrom(survivors.get(i));
+        }
+        return currentPopulation;
+    }
+
+    /**
+     * Row-index counterpart of replaceInto for structure-of-arrays populations. Builds the next generation
+     * by overwriting rows of current and/or offspring (same layout and rows, holding evaluated children)
+     * and returns whichever of the two now holds it; the other becomes free scratch space.
+     */
+    GeneMatrix replaceRows(GeneMatrix current, GeneMatrix offspring);
 }
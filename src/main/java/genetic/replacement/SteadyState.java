@@ -2,11 +2,14 @@ package genetic.replacement;
 
 import genetic.Population;
 import genetic.chromosome.Chromosome;
+import genetic.soa.GeneMatrix;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class SteadyState implements ReplacementStrategy {
     private int numToReplace;
+    private Consumer<Chromosome> releaseHook;
 
     public SteadyState(int numToReplace) {
         this.numToReplace = numToReplace;
@@ -16,9 +19,41 @@ public class SteadyState implements ReplacementStrategy {
     public Population replace(Population currentPopulation, List<Chromosome> offspring) {
         List<Chromosome> newPop = new ArrayList<>(currentPopulation.getChromosomes());
 
+        int replaced = 0;
         for (int i = 0; i < numToReplace && i < offspring.size(); i++) {
-            newPop.set(currentPopulation.getSize() - 1 - i, offspring.get(i));
+            Chromosome dropped = newPop.set(currentPopulation.getSize() - 1 - i, offspring.get(i));
+            if (releaseHook != null) {
+                releaseHook.accept(dropped);
+            }
+            replaced++;
+        }
+        if (releaseHook != null) {
+            offspring.subList(replaced, offspring.size()).forEach(releaseHook);
         }
         return new Population(newPop, currentPopulation.getFitnessFunction());
     }
+
+    @Override
+    public void setReleaseHook(Consumer<Chromosome> releaseHook) {
+        this.releaseHook = releaseHook;
+    }
+
+    @Override
+    public Population replaceInto(Population currentPopulation, Population offspring) {
+        List<Chromosome> slots = currentPopulation.getChromosomes();
+        List<Chromosome> children = offspring.getChromosomes();
+        for (int i = 0; i < numToReplace && i < children.size(); i++) {
+            slots.get(currentPopulation.getSize() - 1 - i).copyFrom(children.get(i));
+        }
+        return currentPopulation;
+    }
+
+    @Override
+    public GeneMatrix replaceRows(GeneMatrix current, GeneMatrix offspring) {
+        int rows = current.getRows();
+        for (int i = 0; i < numToReplace && i < offspring.getRows(); i++) {
+            offspring.copyRow(i, current, rows - 1 - i);
+        }
+        return current;
+    }
 }
@@ -0,0 +1,150 @@
+package genetic.selection;
+
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+import java.util.List;
+
+/**
+ * Fitness-proportionate selection that builds a Vose alias table once per generation in prepare,
+ * after which each draw costs O(1). Negative fitness values are shifted so the worst individual
+ * gets weight zero, NaN values get weight zero, and an all-zero population is sampled uniformly.
+ * The table must be rebuilt with prepare whenever fitness values change.
+ */
+public class AliasRouletteSelection implements SelectionStrategy {
+    private double[] probability = new double[0];
+    private int[] alias = new int[0];
+    private double[] scaled = new double[0];
+    private int[] small = new int[0];
+    private int[] large = new int[0];
+    private int size;
+    private List<Chromosome> preparedChromosomes;
+    private double[] preparedFitness;
+
+    @Override
+    public void prepare(Population population) {
+        List<Chromosome> chromosomes = population.getChromosomes();
+        ensureCapacity(chromosomes.size());
+        for (int i = 0; i < chromosomes.size(); i++) {
+            scaled[i] = chromosomes.get(i).getFitness();
+        }
+        build(chromosomes.size());
+        preparedChromosomes = chromosomes;
+        preparedFitness = null;
+    }
+
+    @Override
+    public void prepare(double[] fitness, int size) {
+        ensureCapacity(size);
+        System.arraycopy(fitness, 0, scaled, 0, size);
+        build(size);
+        preparedFitness = fitness;
+        preparedChromosomes = null;
+    }
+
+    @Override
+    public Chromosome select(Population population) {
+        List<Chromosome> chromosomes = population.getChromosomes();
+        if (chromosomes != preparedChromosomes || chromosomes.size() != size) {
+            prepare(population);
+        }
+        return chromosomes.get(draw(Rng.current()));
+    }
+
+    @Override
+    public int selectIndex(double[] fitness, int size) {
+        if (fitness != preparedFitness || size != this.size) {
+            prepare(fitness, size);
+        }
+        return draw(Rng.current());
+    }
+
+    @Override
+    public void selectIndices(double[] fitness, int size, int[] matingPool) {
+        prepare(fitness, size);
+        Rng random = Rng.current();
+        for (int i = 0; i < matingPool.length; i++) {
+            matingPool[i] = draw(random);
+        }
+    }
+
+    private int draw(Rng random) {
+        int column = random.nextInt(size);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    private void ensureCapacity(int n) {
+        if (probability.length < n) {
+            probability = new double[n];
+            alias = new int[n];
+            scaled = new double[n];
+            small = new int[n];
+            large = new int[n];
+        }
+    }
+
+    // Expects the raw fitness values in scaled[0..n) and turns them into the alias table
+    private void build(int n) {
+        if (n == 0) {
+            throw new IllegalArgumentException("Cannot select from an empty population");
+        }
+        size = n;
+
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            if (!Double.isNaN(scaled[i])) {
+                min = Math.min(min, scaled[i]);
+            }
+        }
+        double shift = min < 0 ? -min : 0.0;
+        double total = 0.0;
+        for (int i = 0; i < n; i++) {
+            double weight = Double.isNaN(scaled[i]) ? 0.0 : scaled[i] + shift;
+            scaled[i] = weight;
+            total += weight;
+        }
+
+        if (!(total > 0) || Double.isInfinite(total)) {
+            for (int i = 0; i < n; i++) {
+                probability[i] = 1.0;
+                alias[i] = i;
+            }
+            return;
+        }
+
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = scaled[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package genetic.selection;
+
+final class CumulativeWeights {
+    private CumulativeWeights() {
+    }
+
+    /**
+     * Returns the first index whose cumulative weight is at least spin, or size - 1 if there is none.
+     */
+    static int search(double[] cumulative, int size, double spin) {
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] >= spin) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Fills cumulative with running sums of the fitness values, shifted so the smallest weight is zero
+     * when any value is negative. NaN counts as zero weight. Returns the total weight.
+     */
+    static double build(double[] fitness, int size, double[] cumulative) {
+        double min = 0.0;
+        for (int i = 0; i < size; i++) {
+            if (fitness[i] < min) {
+                min = fitness[i];
+            }
+        }
+        double total = 0.0;
+        for (int i = 0; i < size; i++) {
+            double value = fitness[i];
+            total += Double.isNaN(value) ? 0.0 : value - min;
+            cumulative[i] = total;
+        }
+        return total;
+    }
+}
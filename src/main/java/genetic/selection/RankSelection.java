@@ -0,0 +1,142 @@
+package genetic.selection;
+
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+import java.util.List;
+
+/**
+ * Linear ranking selection: individuals are sorted by fitness once per generation and the one
+ * of rank r (0 = worst) gets weight (2 - s) + 2 (s - 1) r / (n - 1), where s in [1, 2] is the
+ * selection pressure. Only the order of fitness values matters, so negative values are fine.
+ */
+public class RankSelection implements SelectionStrategy {
+    private final double selectionPressure;
+    private int[] order = new int[0];
+    private double[] cumulative = new double[0];
+    private double[] fitnessBuffer = new double[0];
+    private int size;
+    private List<Chromosome> preparedChromosomes;
+    private double[] preparedFitness;
+
+    public RankSelection(double selectionPressure) {
+        if (selectionPressure < 1.0 || selectionPressure > 2.0) {
+            throw new IllegalArgumentException("selectionPressure must be in [1, 2]");
+        }
+        this.selectionPressure = selectionPressure;
+    }
+
+    @Override
+    public void prepare(Population population) {
+        fitnessBuffer = population.getFitnessValues(fitnessBuffer);
+        prepare(fitnessBuffer, population.getSize());
+        preparedChromosomes = population.getChromosomes();
+        preparedFitness = null;
+    }
+
+    @Override
+    public void prepare(double[] fitness, int size) {
+        if (order.length < size) {
+            order = new int[size];
+            cumulative = new double[size];
+        }
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        sortByFitness(fitness, 0, size - 1);
+
+        double total = 0.0;
+        for (int rank = 0; rank < size; rank++) {
+            double position = size > 1 ? (double) rank / (size - 1) : 1.0;
+            total += (2.0 - selectionPressure) + 2.0 * (selectionPressure - 1.0) * position;
+            cumulative[rank] = total;
+        }
+        this.size = size;
+        preparedFitness = fitness;
+        preparedChromosomes = null;
+    }
+
+    @Override
+    public Chromosome select(Population population) {
+        List<Chromosome> chromosomes = population.getChromosomes();
+        if (chromosomes != preparedChromosomes || chromosomes.size() != size) {
+            prepare(population);
+        }
+        return chromosomes.get(draw(Rng.current()));
+    }
+
+    @Override
+    public int selectIndex(double[] fitness, int size) {
+        if (fitness != preparedFitness || size != this.size) {
+            prepare(fitness, size);
+        }
+        return draw(Rng.current());
+    }
+
+    @Override
+    public void selectIndices(double[] fitness, int size, int[] matingPool) {
+        prepare(fitness, size);
+        Rng random = Rng.current();
+        for (int i = 0; i < matingPool.length; i++) {
+            matingPool[i] = draw(random);
+        }
+    }
+
+    private int draw(Rng random) {
+        double spin = random.nextDouble() * cumulative[size - 1];
+        return order[CumulativeWeights.search(cumulative, size, spin)];
+    }
+
+    // Quicksort of order[low..high] by ascending fitness; NaN sorts as the worst value
+    private void sortByFitness(double[] fitness, int low, int high) {
+        while (low < high) {
+            if (high - low < 16) {
+                for (int i = low + 1; i <= high; i++) {
+                    int index = order[i];
+                    int j = i - 1;
+                    while (j >= low && isLess(fitness, index, order[j])) {
+                        order[j + 1] = order[j];
+                        j--;
+                    }
+                    order[j + 1] = index;
+                }
+                return;
+            }
+            int pivot = order[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (isLess(fitness, order[i], pivot)) {
+                    i++;
+                }
+                while (isLess(fitness, pivot, order[j])) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            // Recurse into the smaller half to bound stack depth
+            if (j - low < high - i) {
+                sortByFitness(fitness, low, j);
+                low = i;
+            } else {
+                sortByFitness(fitness, i, high);
+                high = j;
+            }
+        }
+    }
+
+    private static boolean isLess(double[] fitness, int a, int b) {
+        double x = fitness[a];
+        double y = fitness[b];
+        if (Double.isNaN(x)) {
+            return !Double.isNaN(y);
+        }
+        return x < y;
+    }
+}
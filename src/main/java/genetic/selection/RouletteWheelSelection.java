@@ -2,23 +2,72 @@ package genetic.selection;
 
 import genetic.Population;
 import genetic.chromosome.Chromosome;
-import java.util.Random;
+import genetic.random.Rng;
+import java.util.List;
 
+/**
+ * Fitness-proportionate selection over prefix sums built once per generation in prepare, after which
+ * each draw is a binary search. Weights are shifted when fitness is negative; an all-zero population
+ * is sampled uniformly. The sums must be rebuilt with prepare whenever fitness values change.
+ */
 public class RouletteWheelSelection implements SelectionStrategy {
-    private Random random = new Random();
+    private double[] cumulative = new double[0];
+    private double[] fitnessBuffer = new double[0];
+    private double total;
+    private int size;
+    private List<Chromosome> preparedChromosomes;
+    private double[] preparedFitness;
+
+    @Override
+    public void prepare(Population population) {
+        fitnessBuffer = population.getFitnessValues(fitnessBuffer);
+        prepare(fitnessBuffer, population.getSize());
+        preparedChromosomes = population.getChromosomes();
+        preparedFitness = null;
+    }
+
+    @Override
+    public void prepare(double[] fitness, int size) {
+        if (cumulative.length < size) {
+            cumulative = new double[size];
+        }
+        this.total = CumulativeWeights.build(fitness, size, cumulative);
+        this.size = size;
+        preparedFitness = fitness;
+        preparedChromosomes = null;
+    }
 
     @Override
     public Chromosome select(Population population) {
-        double totalFitness = population.getChromosomes().stream().mapToDouble(Chromosome::getFitness).sum();
-        double spin = random.nextDouble() * totalFitness;
-        double cumulative = 0.0;
-
-        for (Chromosome chrom : population.getChromosomes()) {
-            cumulative += chrom.getFitness();
-            if (cumulative >= spin) {
-                return chrom;
-            }
+        List<Chromosome> chromosomes = population.getChromosomes();
+        if (chromosomes != preparedChromosomes || chromosomes.size() != size) {
+            prepare(population);
+        }
+        return chromosomes.get(spin(Rng.current()));
+    }
+
+    @Override
+    public int selectIndex(double[] fitness, int size) {
+        if (fitness != preparedFitness || size != this.size) {
+            prepare(fitness, size);
+        }
+        return spin(Rng.current());
+    }
+
+    // One O(N) prefix-sum pass, then a binary search per parent instead of a linear scan
+    @Override
+    public void selectIndices(double[] fitness, int size, int[] matingPool) {
+        prepare(fitness, size);
+        Rng random = Rng.current();
+        for (int i = 0; i < matingPool.length; i++) {
+            matingPool[i] = spin(random);
+        }
+    }
+
+    private int spin(Rng random) {
+        if (!(total > 0)) {
+            return random.nextInt(size);
         }
-        return population.getChromosomes().get(population.getSize() - 1);
+        return CumulativeWeights.search(cumulative, size, random.nextDouble() * total);
     }
 }
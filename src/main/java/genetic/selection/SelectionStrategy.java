@@ -5,4 +5,34 @@ import genetic.chromosome.Chromosome;
 
 public interface SelectionStrategy {
     Chromosome select(Population population);
+
+    /**
+     * Called once per generation, after fitness evaluation and before the first select call,
+     * so strategies can precompute per-generation tables.
+     */
+    default void prepare(Population population) {
+    }
+
+    /**
+     * Index-based counterpart of prepare(Population).
+     */
+    default void prepare(double[] fitness, int size) {
+    }
+
+    /**
+     * Selects an individual by index from the first size entries of a fitness array,
+     * for populations stored as row indices rather than Chromosome objects.
+     */
+    int selectIndex(double[] fitness, int size);
+
+    /**
+     * Fills matingPool with the indices of matingPool.length parents drawn from the first size
+     * entries of fitness. Consecutive entries form the breeding pairs.
+     */
+    default void selectIndices(double[] fitness, int size, int[] matingPool) {
+        prepare(fitness, size);
+        for (int i = 0; i < matingPool.length; i++) {
+            matingPool[i] = selectIndex(fitness, size);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package genetic.selection;
+
+import genetic.Population;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+import java.util.List;
+
+/**
+ * Fitness-proportionate selection that places all pointers of a mating pool at equal spacing
+ * on one spin of the wheel, so each individual is picked within one of its expected count.
+ * Weights are shifted when fitness is negative; an all-zero population is sampled uniformly.
+ */
+public class StochasticUniversalSampling implements SelectionStrategy {
+    private double[] cumulative = new double[0];
+    private double[] fitnessBuffer = new double[0];
+    private double total;
+    private int size;
+    private List<Chromosome> preparedChromosomes;
+    private double[] preparedFitness;
+
+    @Override
+    public void prepare(Population population) {
+        fitnessBuffer = population.getFitnessValues(fitnessBuffer);
+        prepare(fitnessBuffer, population.getSize());
+        preparedChromosomes = population.getChromosomes();
+        preparedFitness = null;
+    }
+
+    @Override
+    public void prepare(double[] fitness, int size) {
+        if (cumulative.length < size) {
+            cumulative = new double[size];
+        }
+        this.total = CumulativeWeights.build(fitness, size, cumulative);
+        this.size = size;
+        preparedFitness = fitness;
+        preparedChromosomes = null;
+    }
+
+    // A single draw is an ordinary roulette spin
+    @Override
+    public Chromosome select(Population population) {
+        Rng random = Rng.current();
+        List<Chromosome> chromosomes = population.getChromosomes();
+        if (chromosomes != preparedChromosomes || chromosomes.size() != size) {
+            prepare(population);
+        }
+        return chromosomes.get(spin(random));
+    }
+
+    @Override
+    public int selectIndex(double[] fitness, int size) {
+        Rng random = Rng.current();
+        if (fitness != preparedFitness || size != this.size) {
+            prepare(fitness, size);
+        }
+        return spin(random);
+    }
+
+    @Override
+    public void selectIndices(double[] fitness, int size, int[] matingPool) {
+        Rng random = Rng.current();
+        prepare(fitness, size);
+        int count = matingPool.length;
+        if (!(total > 0)) {
+            for (int i = 0; i < count; i++) {
+                matingPool[i] = random.nextInt(size);
+            }
+            return;
+        }
+
+        double step = total / count;
+        double pointer = random.nextDouble() * step;
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            while (index < size - 1 && cumulative[index] < pointer) {
+                index++;
+            }
+            matingPool[i] = index;
+            pointer += step;
+        }
+
+        // Pointers come out in wheel order; shuffle so copies of one parent do not mate with each other
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = matingPool[i];
+            matingPool[i] = matingPool[j];
+            matingPool[j] = tmp;
+        }
+    }
+
+    private int spin(Rng random) {
+        double u = random.nextDouble();
+        if (!(total > 0)) {
+            return random.nextInt(size);
+        }
+        return CumulativeWeights.search(cumulative, size, u * total);
+    }
+}
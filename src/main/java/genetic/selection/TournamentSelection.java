@@ -2,11 +2,10 @@ package genetic.selection;
 
 import genetic.Population;
 import genetic.chromosome.Chromosome;
-import java.util.Random;
+import genetic.random.Rng;
 
 public class TournamentSelection implements SelectionStrategy {
     private int tournamentSize;
-    private Random random = new Random();
 
     public TournamentSelection(int tournamentSize) {
         this.tournamentSize = tournamentSize;
@@ -14,6 +13,7 @@ public class TournamentSelection implements SelectionStrategy {
 
     @Override
     public Chromosome select(Population population) {
+        Rng random = Rng.current();
         Chromosome best = null;
         for (int i = 0; i < tournamentSize; i++) {
             Chromosome candidate = population.getChromosomes().get(random.nextInt(population.getSize()));
@@ -23,4 +23,32 @@ public class TournamentSelection implements SelectionStrategy {
         }
         return best;
     }
+
+    @Override
+    public int selectIndex(double[] fitness, int size) {
+        Rng random = Rng.current();
+        int best = -1;
+        for (int i = 0; i < tournamentSize; i++) {
+            int candidate = random.nextInt(size);
+            if (best == -1 || fitness[candidate] > fitness[best]) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void selectIndices(double[] fitness, int size, int[] matingPool) {
+        Rng random = Rng.current();
+        for (int p = 0; p < matingPool.length; p++) {
+            int best = random.nextInt(size);
+            for (int i = 1; i < tournamentSize; i++) {
+                int candidate = random.nextInt(size);
+                if (fitness[candidate] > fitness[best]) {
+                    best = candidate;
+                }
+            }
+            matingPool[p] = best;
+        }
+    }
 }
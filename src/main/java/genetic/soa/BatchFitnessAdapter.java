@@ -0,0 +1,24 @@
+package genetic.soa;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+
+/**
+ * Scores a batch with a per-chromosome fitness function, loading each row into one reused chromosome.
+ */
+public class BatchFitnessAdapter implements BatchFitnessFunction {
+    private final FitnessFunction fitnessFunction;
+
+    public BatchFitnessAdapter(FitnessFunction fitnessFunction) {
+        this.fitnessFunction = fitnessFunction;
+    }
+
+    @Override
+    public void evaluate(GeneMatrix genes, double[] scores) {
+        Chromosome scratch = genes.newChromosome();
+        for (int row = 0; row < genes.getRows(); row++) {
+            genes.storeRow(row, scratch);
+            scores[row] = fitnessFunction.evaluate(scratch);
+        }
+    }
+}
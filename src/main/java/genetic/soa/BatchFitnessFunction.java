@@ -0,0 +1,12 @@
+package genetic.soa;
+
+/**
+ * Scores every row of a gene matrix in one call, so the scoring loop can run over the matrix's
+ * contiguous primitive arrays and amortize its setup across the population.
+ */
+public interface BatchFitnessFunction {
+    /**
+     * Writes the fitness of each row of genes into scores[row].
+     */
+    void evaluate(GeneMatrix genes, double[] scores);
+}
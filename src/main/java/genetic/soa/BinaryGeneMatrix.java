@@ -0,0 +1,71 @@
+package genetic.soa;
+
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+
+public class BinaryGeneMatrix extends GeneMatrix {
+    private final boolean[] genes;
+
+    public BinaryGeneMatrix(int rows, int length) {
+        super(rows, length);
+        this.genes = new boolean[rows * length];
+    }
+
+    @Override
+    public void initializeRow(int row, Rng random) {
+        int base = row * length;
+        for (int i = 0; i < length; i++) {
+            genes[base + i] = random.nextBoolean();
+        }
+    }
+
+    @Override
+    public void copyRow(int srcRow, GeneMatrix target, int targetRow) {
+        BinaryGeneMatrix other = (BinaryGeneMatrix) target;
+        System.arraycopy(genes, srcRow * length, other.genes, targetRow * length, length);
+        other.fitness[targetRow] = fitness[srcRow];
+    }
+
+    @Override
+    public void swapRange(int rowA, int rowB, int from, int to) {
+        int a = rowA * length;
+        int b = rowB * length;
+        for (int i = from; i < to; i++) {
+            boolean tmp = genes[a + i];
+            genes[a + i] = genes[b + i];
+            genes[b + i] = tmp;
+        }
+    }
+
+    @Override
+    public void loadRow(int row, Chromosome chromosome) {
+        ((BinaryChromosome) chromosome).copyGenesTo(genes, row * length);
+        fitness[row] = chromosome.getFitness();
+    }
+
+    @Override
+    public void storeRow(int row, Chromosome chromosome) {
+        ((BinaryChromosome) chromosome).setGenes(genes, row * length);
+    }
+
+    @Override
+    public Chromosome newChromosome() {
+        return new BinaryChromosome(length);
+    }
+
+    public boolean getGene(int row, int index) {
+        return genes[row * length + index];
+    }
+
+    public void setGene(int row, int index, boolean value) {
+        genes[row * length + index] = value;
+    }
+
+    /**
+     * Returns the backing row-major array; row r occupies [r * length, (r + 1) * length).
+     */
+    public boolean[] getGenes() {
+        return genes;
+    }
+}
@@ -0,0 +1,83 @@
+package genetic.soa;
+
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.random.Rng;
+
+public class FloatGeneMatrix extends GeneMatrix {
+    private final double[] genes;
+    private final double minValue;
+    private final double maxValue;
+
+    public FloatGeneMatrix(int rows, int length, double minValue, double maxValue) {
+        super(rows, length);
+        this.genes = new double[rows * length];
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    @Override
+    public void initializeRow(int row, Rng random) {
+        int base = row * length;
+        for (int i = 0; i < length; i++) {
+            genes[base + i] = minValue + (maxValue - minValue) * random.nextDouble();
+        }
+    }
+
+    @Override
+    public void copyRow(int srcRow, GeneMatrix target, int targetRow) {
+        FloatGeneMatrix other = (FloatGeneMatrix) target;
+        System.arraycopy(genes, srcRow * length, other.genes, targetRow * length, length);
+        other.fitness[targetRow] = fitness[srcRow];
+    }
+
+    @Override
+    public void swapRange(int rowA, int rowB, int from, int to) {
+        int a = rowA * length;
+        int b = rowB * length;
+        for (int i = from; i < to; i++) {
+            double tmp = genes[a + i];
+            genes[a + i] = genes[b + i];
+            genes[b + i] = tmp;
+        }
+    }
+
+    @Override
+    public void loadRow(int row, Chromosome chromosome) {
+        ((FloatChromosome) chromosome).copyGenesTo(genes, row * length);
+        fitness[row] = chromosome.getFitness();
+    }
+
+    @Override
+    public void storeRow(int row, Chromosome chromosome) {
+        ((FloatChromosome) chromosome).setGenes(genes, row * length);
+    }
+
+    @Override
+    public Chromosome newChromosome() {
+        return new FloatChromosome(length, minValue, maxValue);
+    }
+
+    public double getGene(int row, int index) {
+        return genes[row * length + index];
+    }
+
+    public void setGene(int row, int index, double value) {
+        genes[row * length + index] = value;
+    }
+
+    /**
+     * Returns the backing row-major array; row r occupies [r * length, (r + 1) * length).
+     */
+    public double[] getGenes() {
+        return genes;
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+}
@@ -0,0 +1,222 @@
+package genetic.soa;
+
+import genetic.Population;
+import genetic.api.FitnessFunction;
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.random.Rng;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Structure-of-arrays population: the genes of all individuals live in one contiguous
+ * row-major primitive array of rows x length, with fitness values in a parallel double[].
+ * Individuals are addressed by row index; Chromosome objects are only created on request.
+ * The number of rows in use can be lowered below the capacity the matrix was created with.
+ */
+public abstract class GeneMatrix {
+    protected final int capacity;
+    protected final int length;
+    protected final double[] fitness;
+    protected int rows;
+
+    protected GeneMatrix(int rows, int length) {
+        this.capacity = rows;
+        this.rows = rows;
+        this.length = length;
+        this.fitness = new double[rows];
+    }
+
+    /**
+     * Returns true if forPrototype has a matrix layout for the prototype's encoding.
+     */
+    public static boolean supports(Chromosome prototype) {
+        return prototype instanceof FloatChromosome || prototype instanceof IntegerChromosome
+                || prototype instanceof BinaryChromosome;
+    }
+
+    public static GeneMatrix forPrototype(Chromosome prototype, int rows) {
+        if (prototype instanceof FloatChromosome) {
+            FloatChromosome floatChrom = (FloatChromosome) prototype;
+            return new FloatGeneMatrix(rows, floatChrom.getLength(), floatChrom.getMinValue(), floatChrom.getMaxValue());
+        } else if (prototype instanceof IntegerChromosome) {
+            IntegerChromosome intChrom = (IntegerChromosome) prototype;
+            return new IntegerGeneMatrix(rows, intChrom.getLength(), intChrom.getMinValue(), intChrom.getMaxValue());
+        } else if (prototype instanceof BinaryChromosome) {
+            return new BinaryGeneMatrix(rows, prototype.getLength());
+        }
+        throw new IllegalArgumentException("No matrix layout for " + prototype.getClass().getSimpleName());
+    }
+
+    public static GeneMatrix fromPopulation(Population population) {
+        List<Chromosome> chromosomes = population.getChromosomes();
+        GeneMatrix matrix = forPrototype(chromosomes.get(0), chromosomes.size());
+        for (int row = 0; row < chromosomes.size(); row++) {
+            matrix.loadRow(row, chromosomes.get(row));
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a Population with a new chromosome for every row in use, carrying the row's fitness.
+     */
+    public Population toPopulation() {
+        List<Chromosome> chromosomes = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            Chromosome chromosome = toChromosome(row);
+            chromosome.setFitness(fitness[row]);
+            chromosomes.add(chromosome);
+        }
+        return new Population(chromosomes);
+    }
+
+    public abstract void initializeRow(int row, Rng random);
+
+    /**
+     * Copies the genes and fitness of srcRow into targetRow of target, which must have the same layout.
+     */
+    public abstract void copyRow(int srcRow, GeneMatrix target, int targetRow);
+
+    /**
+     * Exchanges genes [from, to) between two rows of this matrix.
+     */
+    public abstract void swapRange(int rowA, int rowB, int from, int to);
+
+    /**
+     * Copies the genes and fitness of a chromosome of the matching type into a row.
+     */
+    public abstract void loadRow(int row, Chromosome chromosome);
+
+    /**
+     * Copies a row into a chromosome of the matching type, reusing its gene array.
+     */
+    public abstract void storeRow(int row, Chromosome chromosome);
+
+    /**
+     * Creates an empty chromosome with this matrix's type and bounds, usable with storeRow.
+     */
+    public abstract Chromosome newChromosome();
+
+    public void initialize() {
+        initialize(Rng.current());
+    }
+
+    public void initialize(Rng random) {
+        for (int row = 0; row < rows; row++) {
+            initializeRow(row, random);
+        }
+    }
+
+    public void copyAllFrom(GeneMatrix source) {
+        for (int row = 0; row < rows; row++) {
+            source.copyRow(row, this, row);
+        }
+    }
+
+    public Chromosome toChromosome(int row) {
+        Chromosome chromosome = newChromosome();
+        storeRow(row, chromosome);
+        return chromosome;
+    }
+
+    public void evaluateRows(RowFitnessFunction fitnessFunction) {
+        for (int row = 0; row < rows; row++) {
+            fitness[row] = fitnessFunction.evaluate(this, row);
+        }
+    }
+
+    /**
+     * Evaluates every row with a per-chromosome fitness function through a single reused chromosome.
+     */
+    public void evaluate(FitnessFunction fitnessFunction) {
+        evaluate(new BatchFitnessAdapter(fitnessFunction));
+    }
+
+    public void evaluate(BatchFitnessFunction fitnessFunction) {
+        fitnessFunction.evaluate(this, fitness);
+    }
+
+    public int bestRow() {
+        int best = 0;
+        for (int row = 1; row < rows; row++) {
+            if (fitness[row] > fitness[best]) {
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    public int worstRow() {
+        int worst = 0;
+        for (int row = 1; row < rows; row++) {
+            if (fitness[row] < fitness[worst]) {
+                worst = row;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Fills out with the rows of the out.length highest (best = true) or lowest fitness values,
+     * ordered from most to least extreme.
+     */
+    public void extremeRows(int[] out, boolean best) {
+        if (out.length == 0) {
+            return;
+        }
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            double value = fitness[row];
+            if (count == out.length && !isBefore(value, fitness[out[count - 1]], best)) {
+                continue;
+            }
+            int pos = count < out.length ? count++ : count - 1;
+            while (pos > 0 && isBefore(value, fitness[out[pos - 1]], best)) {
+                out[pos] = out[pos - 1];
+                pos--;
+            }
+            out[pos] = row;
+        }
+    }
+
+    private static boolean isBefore(double a, double b, boolean descending) {
+        return descending ? a > b : a < b;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Sets the number of rows in use, at most getCapacity(). Rows past it keep their contents but
+     * are ignored by every method, batch fitness functions included.
+     */
+    public void setRows(int rows) {
+        if (rows < 0 || rows > capacity) {
+            throw new IllegalArgumentException("rows must be between 0 and " + capacity);
+        }
+        this.rows = rows;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public double getFitness(int row) {
+        return fitness[row];
+    }
+
+    public void setFitness(int row, double value) {
+        fitness[row] = value;
+    }
+
+    public double[] getFitness() {
+        return fitness;
+    }
+}
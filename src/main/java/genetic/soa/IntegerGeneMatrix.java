@@ -0,0 +1,83 @@
+package genetic.soa;
+
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.random.Rng;
+
+public class IntegerGeneMatrix extends GeneMatrix {
+    private final int[] genes;
+    private final int minValue;
+    private final int maxValue;
+
+    public IntegerGeneMatrix(int rows, int length, int minValue, int maxValue) {
+        super(rows, length);
+        this.genes = new int[rows * length];
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    @Override
+    public void initializeRow(int row, Rng random) {
+        int base = row * length;
+        for (int i = 0; i < length; i++) {
+            genes[base + i] = random.nextInt(maxValue - minValue + 1) + minValue;
+        }
+    }
+
+    @Override
+    public void copyRow(int srcRow, GeneMatrix target, int targetRow) {
+        IntegerGeneMatrix other = (IntegerGeneMatrix) target;
+        System.arraycopy(genes, srcRow * length, other.genes, targetRow * length, length);
+        other.fitness[targetRow] = fitness[srcRow];
+    }
+
+    @Override
+    public void swapRange(int rowA, int rowB, int from, int to) {
+        int a = rowA * length;
+        int b = rowB * length;
+        for (int i = from; i < to; i++) {
+            int tmp = genes[a + i];
+            genes[a + i] = genes[b + i];
+            genes[b + i] = tmp;
+        }
+    }
+
+    @Override
+    public void loadRow(int row, Chromosome chromosome) {
+        ((IntegerChromosome) chromosome).copyGenesTo(genes, row * length);
+        fitness[row] = chromosome.getFitness();
+    }
+
+    @Override
+    public void storeRow(int row, Chromosome chromosome) {
+        ((IntegerChromosome) chromosome).setGenes(genes, row * length);
+    }
+
+    @Override
+    public Chromosome newChromosome() {
+        return new IntegerChromosome(length, minValue, maxValue);
+    }
+
+    public int getGene(int row, int index) {
+        return genes[row * length + index];
+    }
+
+    public void setGene(int row, int index, int value) {
+        genes[row * length + index] = value;
+    }
+
+    /**
+     * Returns the backing row-major array; row r occupies [r * length, (r + 1) * length).
+     */
+    public int[] getGenes() {
+        return genes;
+    }
+
+    public int getMinValue() {
+        return minValue;
+    }
+
+    public int getMaxValue() {
+        return maxValue;
+    }
+}
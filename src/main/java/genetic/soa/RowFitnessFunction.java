@@ -0,0 +1,5 @@
+package genetic.soa;
+
+public interface RowFitnessFunction {
+    double evaluate(GeneMatrix matrix, int row);
+}
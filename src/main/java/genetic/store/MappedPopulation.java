@@ -0,0 +1,265 @@
+package genetic.store;
+
+import genetic.chromosome.Chromosome;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Population stored off-heap in a memory-mapped file of fixed-width records, addressed by index.
+ * Only the records being read or written are materialized as chromosomes, so the population can be far
+ * larger than the heap, and another process can open the same file read-only to inspect it while it evolves.
+ *
+ * The file starts with a header naming the chromosome type, length and record width, followed by one
+ * record per individual: fitness (8 bytes), an evaluated flag (1 byte, padded to 8) and the genes as
+ * written by Chromosome.writeGenes, padded to a multiple of 8 bytes. The file is mapped in segments of
+ * whole records, so it may exceed 2 GB. Instances are not thread-safe.
+ */
+public class MappedPopulation implements Closeable {
+    private static final int MAGIC = 0x47414d50; // "GAMP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 256;
+    private static final int FITNESS_OFFSET = 0;
+    private static final int FLAG_OFFSET = 8;
+    private static final int GENES_OFFSET = 16;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int size;
+    private final int recordBytes;
+    private final int recordsPerSegment;
+    private final MappedByteBuffer[] segments;
+    // Second set of views so a record can be copied within one segment
+    private final ByteBuffer[] sourceViews;
+
+    private MappedPopulation(Path path, FileChannel channel, FileChannel.MapMode mode, int size, int recordBytes) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        this.recordBytes = recordBytes;
+        this.recordsPerSegment = Math.max(1, MAX_SEGMENT_BYTES / recordBytes);
+        int segmentCount = (size + recordsPerSegment - 1) / recordsPerSegment;
+        this.segments = new MappedByteBuffer[segmentCount];
+        this.sourceViews = new ByteBuffer[segmentCount];
+        for (int s = 0; s < segmentCount; s++) {
+            int records = Math.min(recordsPerSegment, size - s * recordsPerSegment);
+            long start = HEADER_BYTES + (long) s * recordsPerSegment * recordBytes;
+            segments[s] = channel.map(mode, start, (long) records * recordBytes);
+            sourceViews[s] = segments[s].duplicate();
+        }
+    }
+
+    /**
+     * Creates (or truncates) the file at path with room for size chromosomes like the prototype.
+     * Every record starts out unevaluated with zeroed genes.
+     */
+    public static MappedPopulation create(Path path, Chromosome prototype, int size) {
+        int recordBytes = GENES_OFFSET + align(prototype.geneBytes());
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(prototype.getLength())
+                    .putInt(prototype.geneBytes()).putInt(recordBytes);
+            byte[] type = prototype.getClass().getName().getBytes(StandardCharsets.UTF_8);
+            header.putShort((short) type.length).put(type);
+            header.clear();
+            channel.write(header, 0);
+            return new MappedPopulation(path, channel, FileChannel.MapMode.READ_WRITE, size, recordBytes);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot create population file " + path, e);
+        }
+    }
+
+    /**
+     * Opens an existing population file for reading and writing.
+     *
+     * @throws IllegalStateException if the file does not hold chromosomes like the prototype
+     */
+    public static MappedPopulation open(Path path, Chromosome prototype) {
+        return open(path, prototype, false);
+    }
+
+    /**
+     * Opens an existing population file read-only, for example to inspect a run from another process.
+     *
+     * @throws IllegalStateException if the file does not hold chromosomes like the prototype
+     */
+    public static MappedPopulation openReadOnly(Path path, Chromosome prototype) {
+        return open(path, prototype, true);
+    }
+
+    private static MappedPopulation open(Path path, Chromosome prototype, boolean readOnly) {
+        FileChannel channel = null;
+        try {
+            channel = readOnly ? FileChannel.open(path, StandardOpenOption.READ)
+                    : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalStateException(path + " is not a population file");
+            }
+            int size = header.getInt();
+            int length = header.getInt();
+            int geneBytes = header.getInt();
+            int recordBytes = header.getInt();
+            byte[] type = new byte[header.getShort()];
+            header.get(type);
+            if (length != prototype.getLength() || geneBytes != prototype.geneBytes()
+                    || !prototype.getClass().getName().equals(new String(type, StandardCharsets.UTF_8))) {
+                throw new IllegalStateException(path + " does not hold chromosomes like " + prototype.getClass().getSimpleName());
+            }
+            FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+            return new MappedPopulation(path, channel, mode, size, recordBytes);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot open population file " + path, e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public double getFitness(int index) {
+        return segment(index).getDouble(offset(index) + FITNESS_OFFSET);
+    }
+
+    public boolean isEvaluated(int index) {
+        return segment(index).get(offset(index) + FLAG_OFFSET) != 0;
+    }
+
+    public void setFitness(int index, double fitness) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        segment.putDouble(offset + FITNESS_OFFSET, fitness);
+        segment.put(offset + FLAG_OFFSET, (byte) 1);
+    }
+
+    /**
+     * Loads the genes and fitness of a record into target, which must be like the file's prototype.
+     */
+    public void read(int index, Chromosome target) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        segment.position(offset + GENES_OFFSET);
+        target.readGenes(segment);
+        if (segment.get(offset + FLAG_OFFSET) != 0) {
+            target.setFitness(segment.getDouble(offset + FITNESS_OFFSET));
+        }
+    }
+
+    /**
+     * Stores the genes and fitness (if evaluated) of source into a record.
+     */
+    public void write(int index, Chromosome source) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        segment.position(offset + GENES_OFFSET);
+        source.writeGenes(segment);
+        segment.putDouble(offset + FITNESS_OFFSET, source.isEvaluated() ? source.getFitness() : 0.0);
+        segment.put(offset + FLAG_OFFSET, (byte) (source.isEvaluated() ? 1 : 0));
+    }
+
+    /**
+     * Copies record from over record to, without materializing a chromosome.
+     */
+    public void copy(int from, int to) {
+        ByteBuffer source = sourceViews[from / recordsPerSegment];
+        int offset = offset(from);
+        source.limit(offset + recordBytes).position(offset);
+        ByteBuffer target = segment(to);
+        target.position(offset(to));
+        target.put(source);
+        source.limit(source.capacity());
+    }
+
+    /**
+     * Fills out with the indices of the out.length fittest (best = true) or least fit records,
+     * ordered from most to least extreme. Reads only the fitness of each record.
+     */
+    public void extremeIndices(int[] out, boolean best) {
+        if (out.length == 0) {
+            return;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double value = getFitness(i);
+            if (count == out.length && !isBefore(value, getFitness(out[count - 1]), best)) {
+                continue;
+            }
+            int pos = count < out.length ? count++ : count - 1;
+            while (pos > 0 && isBefore(value, getFitness(out[pos - 1]), best)) {
+                out[pos] = out[pos - 1];
+                pos--;
+            }
+            out[pos] = i;
+        }
+    }
+
+    /**
+     * Writes modified records through to the file.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            if (!segment.isReadOnly()) {
+                segment.force();
+            }
+        }
+    }
+
+    /**
+     * Closes the file. The mapping itself is released once this object becomes unreachable.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close population file " + path, e);
+        }
+    }
+
+    private ByteBuffer segment(int index) {
+        return segments[index / recordsPerSegment];
+    }
+
+    private int offset(int index) {
+        return (index % recordsPerSegment) * recordBytes;
+    }
+
+    private static boolean isBefore(double a, double b, boolean descending) {
+        return descending ? a > b : a < b;
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+
+// Every child is checked each generation, without short-circuiting, so stateful criteria stay in step
+class CompositeCriterion implements TerminationCriterion {
+    private final boolean requireAll;
+    private final TerminationCriterion[] criteria;
+
+    CompositeCriterion(boolean requireAll, TerminationCriterion... criteria) {
+        if (criteria.length == 0) {
+            throw new IllegalArgumentException("At least one criterion is required");
+        }
+        this.requireAll = requireAll;
+        this.criteria = criteria.clone();
+    }
+
+    @Override
+    public boolean isSatisfied(GenerationStatistics statistics) {
+        boolean result = requireAll;
+        for (TerminationCriterion criterion : criteria) {
+            boolean satisfied = criterion.isSatisfied(statistics);
+            result = requireAll ? result && satisfied : result || satisfied;
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        for (TerminationCriterion criterion : criteria) {
+            criterion.reset();
+        }
+    }
+
+    @Override
+    public boolean usesDiversity() {
+        for (TerminationCriterion criterion : criteria) {
+            if (criterion.usesDiversity()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
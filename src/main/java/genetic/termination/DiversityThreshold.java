@@ -0,0 +1,25 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+
+/**
+ * Stops when the population has converged, i.e. its genotypic diversity (see GenerationStatistics.getDiversity)
+ * drops below the threshold. Never stops an engine that does not report diversity.
+ */
+public class DiversityThreshold implements TerminationCriterion {
+    private final double threshold;
+
+    public DiversityThreshold(double threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean isSatisfied(GenerationStatistics statistics) {
+        return statistics.getDiversity() < threshold;
+    }
+
+    @Override
+    public boolean usesDiversity() {
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+
+/**
+ * Stops once at least maxEvaluations fitness evaluations have been requested.
+ * The count includes evaluations answered from a fitness cache.
+ */
+public class EvaluationBudget implements TerminationCriterion {
+    private final long maxEvaluations;
+
+    public EvaluationBudget(long maxEvaluations) {
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    @Override
+    public boolean isSatisfied(GenerationStatistics statistics) {
+        return statistics.getEvaluations() >= maxEvaluations;
+    }
+}
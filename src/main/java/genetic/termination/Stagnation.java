@@ -0,0 +1,44 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+
+/**
+ * Stops when the best fitness has not improved by more than tolerance for the given number of generations.
+ */
+public class Stagnation implements TerminationCriterion {
+    private final int generations;
+    private final double tolerance;
+    private double bestSoFar;
+    private int stagnant;
+
+    public Stagnation(int generations) {
+        this(generations, 0.0);
+    }
+
+    public Stagnation(int generations, double tolerance) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("generations must be positive");
+        }
+        this.generations = generations;
+        this.tolerance = tolerance;
+        reset();
+    }
+
+    @Override
+    public boolean isSatisfied(GenerationStatistics statistics) {
+        double best = statistics.getBestFitness();
+        if (best > bestSoFar + tolerance) {
+            bestSoFar = best;
+            stagnant = 0;
+        } else {
+            stagnant++;
+        }
+        return stagnant >= generations;
+    }
+
+    @Override
+    public void reset() {
+        bestSoFar = Double.NEGATIVE_INFINITY;
+        stagnant = 0;
+    }
+}
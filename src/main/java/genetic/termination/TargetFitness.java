@@ -0,0 +1,19 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+
+/**
+ * Stops once the best fitness reaches the target.
+ */
+public class TargetFitness implements TerminationCriterion {
+    private final double target;
+
+    public TargetFitness(double target) {
+        this.target = target;
+    }
+
+    @Override
+    public boolean isSatisfied(GenerationStatistics statistics) {
+        return statistics.getBestFitness() >= target;
+    }
+}
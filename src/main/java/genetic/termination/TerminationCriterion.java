@@ -0,0 +1,43 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+
+/**
+ * Decides after every generation whether a run should stop.
+ * Criteria see the statistics GeneticAlgorithm already computes, so checking them costs no extra
+ * pass over the population. isSatisfied is called exactly once per generation, starting with the
+ * initial population, which lets stateful criteria count generations.
+ */
+public interface TerminationCriterion {
+    boolean isSatisfied(GenerationStatistics statistics);
+
+    /**
+     * Clears any state kept from a previous run. Called when a run starts.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Returns true if isSatisfied reads GenerationStatistics.getDiversity, which the engine then computes
+     * each generation; without such a criterion or listener the diversity is NaN.
+     */
+    default boolean usesDiversity() {
+        return false;
+    }
+
+    default TerminationCriterion and(TerminationCriterion other) {
+        return new CompositeCriterion(true, this, other);
+    }
+
+    default TerminationCriterion or(TerminationCriterion other) {
+        return new CompositeCriterion(false, this, other);
+    }
+
+    static TerminationCriterion allOf(TerminationCriterion... criteria) {
+        return new CompositeCriterion(true, criteria);
+    }
+
+    static TerminationCriterion anyOf(TerminationCriterion... criteria) {
+        return new CompositeCriterion(false, criteria);
+    }
+}
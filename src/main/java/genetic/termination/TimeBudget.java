@@ -0,0 +1,20 @@
+package genetic.termination;
+
+import genetic.GenerationStatistics;
+import java.time.Duration;
+
+/**
+ * Stops once the run has taken longer than the budget. The current generation always completes.
+ */
+public class TimeBudget implements TerminationCriterion {
+    private final long budgetNanos;
+
+    public TimeBudget(Duration budget) {
+        this.budgetNanos = budget.toNanos();
+    }
+
+    @Override
+    public boolean isSatisfied(GenerationStatistics statistics) {
+        return statistics.getElapsedNanos() >= budgetNanos;
+    }
+}
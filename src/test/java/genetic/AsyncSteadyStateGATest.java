@@ -0,0 +1,58 @@
+package genetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.crossover.UniformCrossover;
+import genetic.mutation.FloatGaussian;
+import genetic.selection.RouletteWheelSelection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AsyncSteadyStateGATest {
+    @Test
+    void listenersReceiveTheFinalStatistics() throws InterruptedException {
+        AsyncSteadyStateGA ga = new AsyncSteadyStateGA();
+        ga.setPopulationSize(50);
+        ga.setMaxEvaluations(1010);
+        ga.setThreads(2);
+        ga.setSeed(7);
+        ga.setPrototype(new FloatChromosome(8, 0, 1));
+        ga.setSelectionStrategy(new RouletteWheelSelection());
+        ga.setCrossoverOperator(new UniformCrossover());
+        ga.setMutationOperator(new FloatGaussian(0.2, 0.1));
+        ga.setFitnessFunction(new ThreadSafeSum());
+        BlockingQueue<GenerationStatistics> events = new LinkedBlockingQueue<>();
+        ga.addGenerationListener(events::add);
+        ga.run();
+
+        // Generations are reported every 50 evaluations; only the final report covers the last 10
+        GenerationStatistics last;
+        do {
+            last = events.poll(5, TimeUnit.SECONDS);
+            assertTrue(last != null, "final statistics were not published");
+        } while (last.getEvaluations() < 1010);
+        assertEquals(ga.getStatistics().getBestFitness(), last.getBestFitness());
+    }
+
+    private static class ThreadSafeSum implements FitnessFunction {
+        @Override
+        public double evaluate(Chromosome chromosome) {
+            double sum = 0;
+            for (double gene : ((FloatChromosome) chromosome).getGenes()) {
+                sum += gene;
+            }
+            return sum;
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package genetic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import genetic.api.FitnessFunction;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.crossover.UniformCrossover;
+import genetic.mutation.FloatGaussian;
+import genetic.replacement.Elitism;
+import genetic.selection.TournamentSelection;
+import org.junit.jupiter.api.Test;
+
+class GeneticAlgorithmTest {
+    private static final FitnessFunction SPHERE = chromosome -> {
+        double sum = 0;
+        for (double gene : ((FloatChromosome) chromosome).getGenes()) {
+            sum += gene * gene;
+        }
+        return -sum;
+    };
+
+    @Test
+    void copyingAndDoubleBufferedRunsMatch() {
+        GeneticAlgorithm buffered = configure();
+        buffered.setDoubleBuffered(true);
+        Chromosome expected = buffered.run();
+        assertSameResult(expected, configure().run());
+        GeneticAlgorithm pooled = configure();
+        pooled.setPooled(true);
+        assertSameResult(expected, pooled.run());
+    }
+
+    @Test
+    void structureOfArraysRunMatchesTheObjectRun() {
+        GeneticAlgorithm objects = configure();
+        objects.setDoubleBuffered(true);
+        GeneticAlgorithm rows = configure();
+        rows.setStructureOfArrays(true);
+        assertSameResult(objects.run(), rows.run());
+    }
+
+    private static GeneticAlgorithm configure() {
+        GeneticAlgorithm ga = new GeneticAlgorithm();
+        ga.setPopulationSize(31);
+        ga.setGenerations(40);
+        ga.setMutationProbability(0.3);
+        ga.setPrototype(new FloatChromosome(12, -5, 5));
+        ga.setSelectionStrategy(new TournamentSelection(3));
+        ga.setCrossoverOperator(new UniformCrossover());
+        ga.setMutationOperator(new FloatGaussian(0.2, 0.5));
+        ga.setReplacementStrategy(new Elitism(2));
+        ga.setFitnessFunction(SPHERE);
+        ga.setSeed(42);
+        return ga;
+    }
+
+    private static void assertSameResult(Chromosome expected, Chromosome actual) {
+        assertEquals(expected.getFitness(), actual.getFitness());
+        assertArrayEquals(((FloatChromosome) expected).getGenes(), ((FloatChromosome) actual).getGenes());
+    }
+}
@@ -0,0 +1,65 @@
+package genetic.chromosome;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import genetic.random.Rng;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GeneMomentsTest {
+    private static final int LENGTH = 150;
+
+    @BeforeEach
+    void seed() {
+        Rng.setCurrent(new Rng(23));
+    }
+
+    @Test
+    void packedWordsCountLikeSingleBits() {
+        GeneMoments packed = new GeneMoments();
+        GeneMoments unpacked = new GeneMoments();
+        // Sizes around powers of two make the carries reach a new counter plane
+        for (int size : new int[] {1, 2, 3, 7, 8, 64, 65, 300}) {
+            packed.start(LENGTH);
+            unpacked.start(LENGTH);
+            for (int i = 0; i < size; i++) {
+                PackedBinaryChromosome chromosome = new PackedBinaryChromosome(LENGTH);
+                chromosome.initialize();
+                packed.add(chromosome);
+                unpacked.add(unpack(chromosome));
+            }
+            assertEquals(unpacked.diversity(), packed.diversity(), 1e-12, "size " + size);
+        }
+    }
+
+    @Test
+    void convergedPopulationHasNoDiversity() {
+        GeneMoments moments = new GeneMoments();
+        moments.start(LENGTH);
+        PackedBinaryChromosome chromosome = new PackedBinaryChromosome(LENGTH);
+        chromosome.initialize();
+        for (int i = 0; i < 10; i++) {
+            moments.add(chromosome);
+        }
+        assertEquals(0, moments.diversity(), 1e-12);
+    }
+
+    @Test
+    void unknownOrMismatchedGenesGiveNaN() {
+        GeneMoments moments = new GeneMoments();
+        moments.start(LENGTH);
+        assertTrue(Double.isNaN(moments.diversity()));
+        moments.add(new PackedBinaryChromosome(LENGTH));
+        moments.add(new PackedBinaryChromosome(LENGTH - 1));
+        assertTrue(Double.isNaN(moments.diversity()));
+    }
+
+    private static BinaryChromosome unpack(PackedBinaryChromosome packed) {
+        BinaryChromosome binary = new BinaryChromosome(LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            binary.setGene(i, packed.getGene(i));
+        }
+        return binary;
+    }
+}
@@ -0,0 +1,88 @@
+package genetic.chromosome;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import genetic.random.Rng;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PackedBinaryChromosomeTest {
+    private static final int LENGTH = 150;
+
+    @BeforeEach
+    void seed() {
+        Rng.setCurrent(new Rng(11));
+    }
+
+    @Test
+    void swapRangeExchangesExactlyTheRange() {
+        for (int from = 0; from <= LENGTH; from += 7) {
+            for (int to = from; to <= LENGTH; to += 13) {
+                PackedBinaryChromosome a = random();
+                PackedBinaryChromosome b = random();
+                PackedBinaryChromosome aBefore = (PackedBinaryChromosome) a.copy();
+                PackedBinaryChromosome bBefore = (PackedBinaryChromosome) b.copy();
+                a.swapRange(b, from, to);
+                for (int i = 0; i < LENGTH; i++) {
+                    boolean inside = i >= from && i < to;
+                    assertEquals(inside ? bBefore.getGene(i) : aBefore.getGene(i), a.getGene(i), "gene " + i);
+                    assertEquals(inside ? aBefore.getGene(i) : bBefore.getGene(i), b.getGene(i), "gene " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void getBitsReadsGenesLeastSignificantFirst() {
+        PackedBinaryChromosome chromosome = random();
+        for (int from = 0; from < LENGTH; from += 5) {
+            for (int count = 1; count <= Math.min(64, LENGTH - from); count += 9) {
+                long bits = chromosome.getBits(from, count);
+                for (int j = 0; j < count; j++) {
+                    assertEquals(chromosome.getGene(from + j), ((bits >>> j) & 1) != 0);
+                }
+                if (count < 64) {
+                    assertEquals(0, bits >>> count);
+                }
+            }
+        }
+    }
+
+    @Test
+    void setBitsWritesOnlyTheGivenGenes() {
+        Rng random = Rng.current();
+        for (int from = 0; from < LENGTH; from += 3) {
+            int count = 1 + random.nextInt(Math.min(64, LENGTH - from));
+            PackedBinaryChromosome chromosome = random();
+            PackedBinaryChromosome before = (PackedBinaryChromosome) chromosome.copy();
+            long value = random.nextLong();
+            chromosome.setBits(from, count, value);
+            for (int i = 0; i < LENGTH; i++) {
+                boolean expected = i >= from && i < from + count ? ((value >>> (i - from)) & 1) != 0 : before.getGene(i);
+                assertEquals(expected, chromosome.getGene(i), "gene " + i);
+            }
+        }
+    }
+
+    @Test
+    void setBitsPastTheLastGeneLeavesTheTailClear() {
+        PackedBinaryChromosome chromosome = new PackedBinaryChromosome(LENGTH);
+        chromosome.setBits(LENGTH - 10, 64, -1L);
+        assertEquals(10, chromosome.bitCount());
+        assertEquals(0, chromosome.getWord(chromosome.getWordCount() - 1) >>> (LENGTH & 63));
+    }
+
+    @Test
+    void getBitsPastTheLastGeneReadsZeros() {
+        PackedBinaryChromosome chromosome = new PackedBinaryChromosome(LENGTH);
+        chromosome.setBits(LENGTH - 10, 10, -1L);
+        assertEquals(0x3FF, chromosome.getBits(LENGTH - 10, 64));
+        assertEquals(0, chromosome.getBits(LENGTH, 1));
+    }
+
+    private static PackedBinaryChromosome random() {
+        PackedBinaryChromosome chromosome = new PackedBinaryChromosome(LENGTH);
+        chromosome.initialize();
+        return chromosome;
+    }
+}
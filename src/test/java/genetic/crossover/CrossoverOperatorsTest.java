@@ -0,0 +1,133 @@
+package genetic.crossover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.Chromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.random.Rng;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CrossoverOperatorsTest {
+    private static final int LENGTH = 37;
+
+    @BeforeEach
+    void seed() {
+        Rng.setCurrent(new Rng(42));
+    }
+
+    @Test
+    void binaryCrossoversExchangeGenesPositionByPosition() {
+        for (CrossoverOperator<Chromosome> operator : generalAndSpecialized(filled(false))) {
+            boolean changed = false;
+            for (int trial = 0; trial < 200; trial++) {
+                BinaryChromosome child1 = filled(false);
+                BinaryChromosome child2 = filled(true);
+                operator.crossoverInPlace(child1, child2);
+                assertEquals(LENGTH, child1.getLength());
+                assertEquals(LENGTH, child2.getLength());
+                for (int i = 0; i < LENGTH; i++) {
+                    assertNotEquals(child1.getGene(i), child2.getGene(i), operator.getClass().getName());
+                    changed |= child1.getGene(i);
+                }
+            }
+            assertTrue(changed, operator.getClass().getName() + " never exchanged a gene");
+        }
+    }
+
+    @Test
+    void twoPointCrossoverCanReachTheLastGene() {
+        TwoPointCrossover general = new TwoPointCrossover();
+        for (CrossoverOperator<Chromosome> operator : List.of(general, CrossoverOperator.forPrototype(general, filled(false)))) {
+            int lastSwapped = 0;
+            for (int trial = 0; trial < 2000; trial++) {
+                BinaryChromosome child1 = filled(false);
+                BinaryChromosome child2 = filled(true);
+                operator.crossoverInPlace(child1, child2);
+                if (child1.getGene(LENGTH - 1)) {
+                    lastSwapped++;
+                }
+            }
+            assertTrue(lastSwapped > 0, operator.getClass().getName());
+        }
+    }
+
+    @Test
+    void floatCrossoverKeepsGenesWithinBounds() {
+        FloatChromosome parent1 = new FloatChromosome(LENGTH, -2.0, 3.0);
+        FloatChromosome parent2 = new FloatChromosome(LENGTH, -2.0, 3.0);
+        parent1.initialize();
+        parent2.initialize();
+        for (CrossoverOperator<Chromosome> operator : generalAndSpecialized(parent1)) {
+            List<Chromosome> children = operator.crossover(parent1, parent2);
+            FloatChromosome child1 = (FloatChromosome) children.get(0);
+            FloatChromosome child2 = (FloatChromosome) children.get(1);
+            for (int i = 0; i < LENGTH; i++) {
+                assertTrue(child1.getGene(i) >= -2.0 && child1.getGene(i) <= 3.0);
+                assertEquals(parent1.getGene(i) + parent2.getGene(i), child1.getGene(i) + child2.getGene(i), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void uniformCrossoverIsSpecializedForPackedChromosomes() {
+        int length = 130;
+        CrossoverOperator<Chromosome> operator = CrossoverOperator.forPrototype(new UniformCrossover(), new PackedBinaryChromosome(length));
+        assertEquals(PackedUniformCrossover.class, operator.getClass());
+        long swapped = 0;
+        for (int trial = 0; trial < 200; trial++) {
+            PackedBinaryChromosome child1 = new PackedBinaryChromosome(length);
+            PackedBinaryChromosome child2 = new PackedBinaryChromosome(length);
+            child2.setBits(0, 64, -1L);
+            child2.setBits(64, 64, -1L);
+            child2.setBits(128, 2, -1L);
+            operator.crossoverInPlace(child1, child2);
+            assertEquals(length, child1.bitCount() + child2.bitCount());
+            assertEquals(0, child1.getWord(2) >>> (length & 63));
+            assertEquals(0, child2.getWord(2) >>> (length & 63));
+            swapped += child1.bitCount();
+        }
+        double fraction = swapped / (200.0 * length);
+        assertTrue(fraction > 0.45 && fraction < 0.55, "swapped fraction " + fraction);
+    }
+
+    @Test
+    void specializedUniformCrossoverSwapsAboutHalf() {
+        CrossoverOperator<Chromosome> operator = CrossoverOperator.forPrototype(new UniformCrossover(), filled(false));
+        long swapped = 0;
+        for (int trial = 0; trial < 500; trial++) {
+            BinaryChromosome child1 = filled(false);
+            BinaryChromosome child2 = filled(true);
+            operator.crossoverInPlace(child1, child2);
+            for (int i = 0; i < LENGTH; i++) {
+                swapped += child1.getGene(i) ? 1 : 0;
+            }
+        }
+        double fraction = swapped / (500.0 * LENGTH);
+        assertTrue(fraction > 0.45 && fraction < 0.55, "swapped fraction " + fraction);
+    }
+
+    // Each operator as configured and as an engine would use it on the prototype's encoding
+    private static List<CrossoverOperator<Chromosome>> generalAndSpecialized(Chromosome prototype) {
+        List<CrossoverOperator<Chromosome>> operators = new ArrayList<>();
+        for (CrossoverOperator<Chromosome> operator : List.of(new OnePointCrossover(), new TwoPointCrossover(), new UniformCrossover())) {
+            operators.add(operator);
+            operators.add(CrossoverOperator.forPrototype(operator, prototype));
+        }
+        return operators;
+    }
+
+    private static BinaryChromosome filled(boolean value) {
+        BinaryChromosome chromosome = new BinaryChromosome(LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            chromosome.setGene(i, value);
+        }
+        return chromosome;
+    }
+}
@@ -0,0 +1,104 @@
+package genetic.multiobjective;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import genetic.random.Rng;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class NonDominatedSortingTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void ranksMatchABruteForcePeel() {
+        Rng random = new Rng(17);
+        NonDominatedSorting sequential = new NonDominatedSorting(null);
+        NonDominatedSorting parallel = new NonDominatedSorting(pool);
+        for (int trial = 0; trial < 120; trial++) {
+            // Sizes past one block exercise the cross-block ranking; small integer grids give ties and duplicates
+            int n = 1 + random.nextInt(trial % 10 == 0 ? 700 : 120);
+            int m = 1 + random.nextInt(4);
+            double[] objectives = new double[n * m];
+            for (int i = 0; i < objectives.length; i++) {
+                objectives[i] = trial % 2 == 0 ? random.nextInt(6) : random.nextDouble();
+            }
+            int[] expected = bruteForceRanks(objectives, n, m);
+            for (NonDominatedSorting sorting : new NonDominatedSorting[] {sequential, parallel}) {
+                sorting.sort(objectives, n, m);
+                checkFronts(sorting, expected, n);
+            }
+        }
+    }
+
+    @Test
+    void crowdingDistanceGivesExtremesInfinity() {
+        double[] objectives = {0, 4, 1, 3, 2, 2, 4, 0};
+        int[] rows = {0, 1, 2, 3};
+        double[] distance = new double[4];
+        NonDominatedSorting.crowdingDistance(objectives, 2, rows, 0, 4, distance);
+        assertEquals(Double.POSITIVE_INFINITY, distance[0]);
+        assertEquals(Double.POSITIVE_INFINITY, distance[3]);
+        assertEquals(1.0, distance[1], 1e-12);
+        assertEquals(1.5, distance[2], 1e-12);
+    }
+
+    private static void checkFronts(NonDominatedSorting sorting, int[] expected, int n) {
+        int maxRank = 0;
+        for (int row = 0; row < n; row++) {
+            assertEquals(expected[row], sorting.getRank(row), "row " + row);
+            maxRank = Math.max(maxRank, expected[row]);
+        }
+        assertEquals(maxRank + 1, sorting.getFrontCount());
+        boolean[] seen = new boolean[n];
+        int[] order = sorting.getOrder();
+        for (int f = 0; f < sorting.getFrontCount(); f++) {
+            for (int i = sorting.getFrontStart(f); i < sorting.getFrontEnd(f); i++) {
+                assertEquals(f, expected[order[i]]);
+                assertTrue(!seen[order[i]]);
+                seen[order[i]] = true;
+            }
+        }
+        assertEquals(n, sorting.getFrontEnd(sorting.getFrontCount() - 1));
+    }
+
+    // Repeatedly removes the rows no remaining row dominates
+    private static int[] bruteForceRanks(double[] objectives, int n, int m) {
+        int[] rank = new int[n];
+        boolean[] removed = new boolean[n];
+        int remaining = n;
+        for (int front = 0; remaining > 0; front++) {
+            boolean[] inFront = new boolean[n];
+            for (int p = 0; p < n; p++) {
+                if (removed[p]) {
+                    continue;
+                }
+                boolean dominated = false;
+                for (int q = 0; q < n && !dominated; q++) {
+                    dominated = !removed[q] && NonDominatedSorting.dominates(objectives, q, p, m);
+                }
+                inFront[p] = !dominated;
+            }
+            for (int p = 0; p < n; p++) {
+                if (inFront[p]) {
+                    rank[p] = front;
+                    removed[p] = true;
+                    remaining--;
+                }
+            }
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,99 @@
+package genetic.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.FloatChromosome;
+import genetic.chromosome.IntegerChromosome;
+import genetic.chromosome.PackedBinaryChromosome;
+import genetic.random.Rng;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MutationOperatorsTest {
+    private static final int LENGTH = 70;
+
+    @BeforeEach
+    void seed() {
+        Rng.setCurrent(new Rng(7));
+    }
+
+    @Test
+    void binaryBitFlipFlipsEveryGeneAtRateOne() {
+        BinaryChromosome chromosome = new BinaryChromosome(LENGTH);
+        chromosome.initialize();
+        BinaryChromosome before = (BinaryChromosome) chromosome.copy();
+        new BinaryBitFlip(1.0).mutate(chromosome, 0, 10);
+        assertEquals(LENGTH, chromosome.getLength());
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(!before.getGene(i), chromosome.getGene(i));
+        }
+        assertFalse(chromosome.isEvaluated());
+    }
+
+    @Test
+    void packedBitFlipMatchesTheRateAndKeepsTheTailClear() {
+        PackedBinaryChromosome chromosome = new PackedBinaryChromosome(LENGTH);
+        new PackedBinaryBitFlip(1.0).mutate(chromosome, 0, 10);
+        assertEquals(LENGTH, chromosome.bitCount());
+
+        long flipped = 0;
+        for (int trial = 0; trial < 200; trial++) {
+            PackedBinaryChromosome sparse = new PackedBinaryChromosome(LENGTH);
+            new PackedBinaryBitFlip(0.1).mutate(sparse, 0, 10);
+            assertEquals(0, sparse.getWord(1) >>> (LENGTH & 63));
+            flipped += sparse.bitCount();
+        }
+        double rate = flipped / (200.0 * LENGTH);
+        assertTrue(rate > 0.08 && rate < 0.12, "flip rate " + rate);
+    }
+
+    @Test
+    void floatMutationsChangeGenesWithinBounds() {
+        for (MutationOperator<FloatChromosome> operator : List.of(new FloatGaussian(1.0, 0.5), new FloatUniformMutation(1.0))) {
+            FloatChromosome chromosome = new FloatChromosome(LENGTH, -1.0, 1.0);
+            chromosome.initialize();
+            double[] before = chromosome.getGenes().clone();
+            operator.mutate(chromosome, 0, 10);
+            assertEquals(LENGTH, chromosome.getLength());
+            assertFalse(Arrays.equals(before, chromosome.getGenes()), operator.getClass().getSimpleName());
+            for (int i = 0; i < LENGTH; i++) {
+                assertTrue(chromosome.getGene(i) >= -1.0 && chromosome.getGene(i) <= 1.0);
+            }
+        }
+    }
+
+    @Test
+    void integerMutationsChangeGenesWithinBounds() {
+        List<MutationOperator<IntegerChromosome>> operators =
+                List.of(new IntegerCreepMutation(1.0, 3), new IntegerRandomResetting(1.0), new IntegerSwap(1.0));
+        for (MutationOperator<IntegerChromosome> operator : operators) {
+            IntegerChromosome chromosome = new IntegerChromosome(LENGTH, 0, 9);
+            chromosome.initialize();
+            int[] before = chromosome.getGenes().clone();
+            operator.mutate(chromosome, 0, 10);
+            assertEquals(LENGTH, chromosome.getLength());
+            assertFalse(Arrays.equals(before, chromosome.getGenes()), operator.getClass().getSimpleName());
+            for (int i = 0; i < LENGTH; i++) {
+                assertTrue(chromosome.getGene(i) >= 0 && chromosome.getGene(i) <= 9);
+            }
+        }
+    }
+
+    @Test
+    void integerSwapOnlyReordersGenes() {
+        IntegerChromosome chromosome = new IntegerChromosome(LENGTH, 0, 1000);
+        chromosome.initialize();
+        int[] before = chromosome.getGenes().clone();
+        new IntegerSwap(0.5).mutate(chromosome, 0, 10);
+        int[] after = chromosome.getGenes().clone();
+        Arrays.sort(before);
+        Arrays.sort(after);
+        assertArrayEquals(before, after);
+    }
+}
@@ -0,0 +1,97 @@
+package genetic.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import genetic.random.Rng;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class FitnessSelectionTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void selectMatchesAFullSort() {
+        Rng random = new Rng(3);
+        for (int trial = 0; trial < 300; trial++) {
+            int n = 1 + random.nextInt(400);
+            double[] fitness = fitness(random, n, trial % 3 == 0);
+            int k = random.nextInt(n + 1);
+            for (boolean best : new boolean[] {true, false}) {
+                int[] indices = identity(n);
+                FitnessSelection.select(fitness, indices, 0, n, k, best);
+                assertArrayEquals(expected(fitness, n, k, best), selectedValues(fitness, indices, k), "n=" + n + " k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void selectWorksOnASubrange() {
+        Rng random = new Rng(5);
+        double[] fitness = fitness(random, 200, false);
+        int[] indices = identity(200);
+        FitnessSelection.select(fitness, indices, 50, 150, 10, true);
+        double[] range = Arrays.copyOfRange(fitness, 50, 150);
+        int[] chosen = Arrays.copyOfRange(indices, 50, 60);
+        assertArrayEquals(expected(range, 100, 10, true), selectedValues(fitness, chosen, 10));
+    }
+
+    @Test
+    void selectParallelMatchesAFullSort() {
+        Rng random = new Rng(9);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 100 + random.nextInt(5000);
+            double[] fitness = fitness(random, n, trial % 2 == 0);
+            int k = 1 + random.nextInt(n / 2);
+            for (boolean best : new boolean[] {true, false}) {
+                int[] indices = identity(n);
+                FitnessSelection.selectParallel(fitness, indices, n, k, best, pool, 64);
+                assertArrayEquals(expected(fitness, n, k, best), selectedValues(fitness, indices, k), "n=" + n + " k=" + k);
+            }
+        }
+    }
+
+    // Few distinct values exercise the heap fallback for degenerate partitions
+    private static double[] fitness(Rng random, int n, boolean manyTies) {
+        double[] fitness = new double[n];
+        for (int i = 0; i < n; i++) {
+            fitness[i] = manyTies ? random.nextInt(3) : random.nextGaussian();
+        }
+        return fitness;
+    }
+
+    private static int[] identity(int n) {
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    private static double[] expected(double[] fitness, int n, int k, boolean best) {
+        double[] sorted = Arrays.copyOf(fitness, n);
+        Arrays.sort(sorted);
+        return best ? Arrays.copyOfRange(sorted, n - k, n) : Arrays.copyOf(sorted, k);
+    }
+
+    private static double[] selectedValues(double[] fitness, int[] indices, int k) {
+        double[] values = new double[k];
+        for (int i = 0; i < k; i++) {
+            values[i] = fitness[indices[i]];
+        }
+        Arrays.sort(values);
+        return values;
+    }
+}
@@ -0,0 +1,74 @@
+package genetic.selection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import genetic.Population;
+import genetic.chromosome.BinaryChromosome;
+import genetic.chromosome.Chromosome;
+import genetic.random.Rng;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RouletteWheelSelectionTest {
+    private static final int DRAWS = 200_000;
+    // Shifted by the minimum, the weights are 0, 1, 3 and 4
+    private static final double[] FITNESS = {-3, -2, 0, 1};
+
+    @BeforeEach
+    void seed() {
+        Rng.setCurrent(new Rng(23));
+    }
+
+    @Test
+    void everyPathDrawsFromTheShiftedWeights() {
+        double[] expected = {0, 1 / 8.0, 3 / 8.0, 4 / 8.0};
+
+        List<Chromosome> chromosomes = new ArrayList<>();
+        for (double value : FITNESS) {
+            Chromosome chromosome = new BinaryChromosome(1);
+            chromosome.setFitness(value);
+            chromosomes.add(chromosome);
+        }
+        Population population = new Population(chromosomes);
+        RouletteWheelSelection selection = new RouletteWheelSelection();
+        double[] counts = new double[FITNESS.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[chromosomes.indexOf(selection.select(population))]++;
+        }
+        checkFrequencies(expected, counts);
+
+        counts = new double[FITNESS.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[selection.selectIndex(FITNESS, FITNESS.length)]++;
+        }
+        checkFrequencies(expected, counts);
+
+        int[] matingPool = new int[DRAWS];
+        selection.selectIndices(FITNESS, FITNESS.length, matingPool);
+        counts = new double[FITNESS.length];
+        for (int index : matingPool) {
+            counts[index]++;
+        }
+        checkFrequencies(expected, counts);
+    }
+
+    @Test
+    void equalFitnessIsSampledUniformly() {
+        double[] fitness = {-1, -1, -1, -1};
+        int[] matingPool = new int[DRAWS];
+        new RouletteWheelSelection().selectIndices(fitness, fitness.length, matingPool);
+        double[] counts = new double[fitness.length];
+        for (int index : matingPool) {
+            counts[index]++;
+        }
+        checkFrequencies(new double[] {0.25, 0.25, 0.25, 0.25}, counts);
+    }
+
+    private static void checkFrequencies(double[] expected, double[] counts) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], counts[i] / DRAWS, 0.01, "index " + i);
+        }
+    }
+}